@@ -0,0 +1,19 @@
+package com.goorm.travelshopping.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CatalogVersion {
+
+    // 재시작 후에도 이전 ETag와 겹치지 않도록 기동 시각에서 시작한다.
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return version.get();
+    }
+
+    public long bump() {
+        return version.incrementAndGet();
+    }
+}
@@ -0,0 +1,30 @@
+package com.goorm.travelshopping.cache;
+
+import com.goorm.travelshopping.dto.product.CategoryResponse;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CategoryTreeCache {
+
+    private final CategoryVersion categoryVersion;
+    private volatile CategoryTreeSnapshot snapshot;
+
+    public CategoryTreeCache(CategoryVersion categoryVersion) {
+        this.categoryVersion = categoryVersion;
+    }
+
+    public CategoryTreeSnapshot getOrLoad(Supplier<List<CategoryResponse>> loader) {
+        CategoryTreeSnapshot current = snapshot;
+        if (current != null && current.version() == categoryVersion.current()) {
+            return current;
+        }
+
+        // 로딩 전에 버전을 읽어 두어야 로딩 중 변경이 생겨도 오래된 트리가 최신 버전으로 저장되지 않는다.
+        long version = categoryVersion.current();
+        CategoryTreeSnapshot loaded = new CategoryTreeSnapshot(version, List.copyOf(loader.get()));
+        snapshot = loaded;
+        return loaded;
+    }
+}
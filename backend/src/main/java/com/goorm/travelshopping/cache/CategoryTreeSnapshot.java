@@ -0,0 +1,13 @@
+package com.goorm.travelshopping.cache;
+
+import com.goorm.travelshopping.dto.product.CategoryResponse;
+import java.util.List;
+
+public record CategoryTreeSnapshot(
+        long version,
+        List<CategoryResponse> categories
+) {
+    public String etag() {
+        return "\"categories-" + version + "\"";
+    }
+}
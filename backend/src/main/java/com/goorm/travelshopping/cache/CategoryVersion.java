@@ -0,0 +1,22 @@
+package com.goorm.travelshopping.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 트리와 그 ETag의 버전. 상품 변경과 분리해 주문이나 재고 변경으로 트리 캐시가 비워지지 않게 한다.
+ */
+@Component
+public class CategoryVersion {
+
+    // 재시작 후에도 이전 ETag와 겹치지 않도록 기동 시각에서 시작한다.
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return version.get();
+    }
+
+    public long bump() {
+        return version.incrementAndGet();
+    }
+}
@@ -0,0 +1,90 @@
+package com.goorm.travelshopping.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goorm.travelshopping.dto.product.ProductDetailResponse;
+import com.goorm.travelshopping.event.ProductChangedEvent;
+import com.goorm.travelshopping.event.ProductDeletedEvent;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 상품별 상세 응답을 JSON 바이트와 gzip 바이트로 보관한다. 상품이 바뀌면 상품별 버전을 올려 무효화하고,
+ * 조회수처럼 이벤트 없이 바뀌는 값은 만료 시간이 지나면 다시 읽어 반영한다.
+ */
+@Component
+public class ProductDetailCache {
+
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<Long, ProductDetailPayload> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public ProductDetailCache(ObjectMapper objectMapper,
+                              @Value("${app.detail-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttlSeconds * 1000L;
+    }
+
+    public ProductDetailPayload getOrLoad(Long productId, Supplier<ProductDetailResponse> loader) {
+        long version = versions.getOrDefault(productId, 0L);
+        ProductDetailPayload cached = entries.get(productId);
+        if (cached != null && cached.version() == version && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        // 로딩 전에 읽은 버전으로 저장해야 로딩 중 수정된 상품이 새 버전으로 캐시되지 않는다.
+        ProductDetailPayload loaded = serialize(version, loader.get());
+        entries.compute(productId, (id, current) ->
+                versions.getOrDefault(productId, 0L) == version ? loaded : current);
+        return loaded;
+    }
+
+    public void invalidate(Long productId) {
+        versions.merge(productId, 1L, Long::sum);
+        entries.remove(productId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        event.productIds().forEach(this::invalidate);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductDeleted(ProductDeletedEvent event) {
+        invalidate(event.productId());
+    }
+
+    private ProductDetailPayload serialize(long version, ProductDetailResponse response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            return new ProductDetailPayload(
+                    version,
+                    json,
+                    gzip(json),
+                    DigestUtils.md5DigestAsHex(json),
+                    System.currentTimeMillis() + ttlMillis
+            );
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("상품 상세 응답을 직렬화하지 못했습니다.", ex);
+        }
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,20 @@
+package com.goorm.travelshopping.cache;
+
+/**
+ * 직렬화가 끝난 상품 상세 JSON과 gzip 압축본. ETag는 본문 해시이며 압축본은 표현이 다르므로 접미사를 붙인다.
+ */
+public record ProductDetailPayload(
+        long version,
+        byte[] json,
+        byte[] gzip,
+        String contentHash,
+        long expiresAt
+) {
+    public String etag(boolean gzipped) {
+        return "\"product-" + contentHash + (gzipped ? "-gzip" : "") + "\"";
+    }
+
+    public byte[] body(boolean gzipped) {
+        return gzipped ? gzip : json;
+    }
+}
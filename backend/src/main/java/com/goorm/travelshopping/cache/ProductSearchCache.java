@@ -0,0 +1,132 @@
+package com.goorm.travelshopping.cache;
+
+import com.goorm.travelshopping.dto.product.ProductPageResponse;
+import com.goorm.travelshopping.repository.ProductSort;
+import com.goorm.travelshopping.search.SearchMode;
+import com.goorm.travelshopping.search.SearchTokenizer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 상품 목록 조회 결과를 카탈로그 버전과 함께 보관하는 LRU 캐시.
+ * 항목 수와 결과에 담긴 상품 수(가중치) 중 하나라도 한도를 넘으면 가장 오래 쓰이지 않은 항목부터 제거한다.
+ */
+@Component
+public class ProductSearchCache {
+
+    private final CatalogVersion catalogVersion;
+    private final int maxEntries;
+    private final long maxWeight;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ProductSearchCache(CatalogVersion catalogVersion,
+                              @Value("${app.search-cache.max-entries:1000}") int maxEntries,
+                              @Value("${app.search-cache.max-weight:20000}") long maxWeight) {
+        this.catalogVersion = catalogVersion;
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    public ProductPageResponse getOrLoad(Key key, Supplier<ProductPageResponse> loader) {
+        long version = catalogVersion.current();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version() == version) {
+                hits.incrementAndGet();
+                return entry.response();
+            }
+            if (entry != null) {
+                removeEntry(key);
+            }
+        }
+        misses.incrementAndGet();
+
+        // 로딩 전에 읽은 버전으로 저장해야 로딩 중 상품이 바뀌면 다음 조회에서 다시 읽는다.
+        ProductPageResponse loaded = loader.get();
+        Entry fresh = new Entry(version, loaded, Math.max(1, loaded.items().size()));
+        synchronized (this) {
+            if (version == catalogVersion.current()) {
+                put(key, fresh);
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized Stats stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+        double hitRatio = total == 0 ? 0.0 : (double) hitCount / total;
+        return new Stats(entries.size(), weight, maxEntries, maxWeight, hitCount, missCount, evictions.get(), hitRatio);
+    }
+
+    private void put(Key key, Entry entry) {
+        removeEntry(key);
+        entries.put(key, entry);
+        weight += entry.weight();
+
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && eldest.hasNext()) {
+            Map.Entry<Key, Entry> victim = eldest.next();
+            if (victim.getKey().equals(key)) {
+                break;
+            }
+            weight -= victim.getValue().weight();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void removeEntry(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.weight();
+        }
+    }
+
+    public record Key(
+            String keyword,
+            SearchMode mode,
+            Long categoryId,
+            ProductSort sort,
+            String cursor,
+            int size
+    ) {
+        public static Key of(String keyword, SearchMode mode, Long categoryId, ProductSort sort, String cursor, int size) {
+            // 같은 토큰으로 나뉘는 키워드는 같은 결과를 내므로 정규화한 문자열로 묶는다.
+            String normalized = StringUtils.hasText(keyword) ? SearchTokenizer.normalizeForSuggest(keyword) : null;
+            return new Key(normalized, mode, categoryId, sort, cursor, size);
+        }
+    }
+
+    private record Entry(long version, ProductPageResponse response, int weight) {
+    }
+
+    public record Stats(
+            int entries,
+            long weight,
+            int maxEntries,
+            long maxWeight,
+            long hits,
+            long misses,
+            long evictions,
+            double hitRatio
+    ) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.goorm.travelshopping.controller;
+
+import com.goorm.travelshopping.dto.product.CategoryCreateRequest;
+import com.goorm.travelshopping.dto.product.CategoryMoveRequest;
+import com.goorm.travelshopping.dto.product.CategoryResponse;
+import com.goorm.travelshopping.service.CategoryService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/categories")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminCategoryController {
+
+    private final CategoryService categoryService;
+
+    public AdminCategoryController(CategoryService categoryService) {
+        this.categoryService = categoryService;
+    }
+
+    @PostMapping
+    public ResponseEntity<CategoryResponse> createCategory(@Valid @RequestBody CategoryCreateRequest request) {
+        CategoryResponse response = categoryService.createCategory(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PatchMapping("/{categoryId}/parent")
+    public CategoryResponse moveCategory(@PathVariable Long categoryId,
+                                         @RequestBody CategoryMoveRequest request) {
+        return categoryService.moveCategory(categoryId, request.parentId());
+    }
+}
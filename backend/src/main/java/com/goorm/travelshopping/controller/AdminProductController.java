@@ -1,15 +1,36 @@
 package com.goorm.travelshopping.controller;
 
+import com.goorm.travelshopping.cache.ProductSearchCache;
+import com.goorm.travelshopping.dto.product.AdminProductPageResponse;
 import com.goorm.travelshopping.dto.product.ProductCreateRequest;
 import com.goorm.travelshopping.dto.product.ProductDetailResponse;
+import com.goorm.travelshopping.dto.product.ProductImageResponse;
+import com.goorm.travelshopping.dto.product.ProductImportResponse;
 import com.goorm.travelshopping.dto.product.ProductUpdateRequest;
+import com.goorm.travelshopping.dto.product.ProductVisitorStatsResponse;
 import com.goorm.travelshopping.entity.enums.ProductStatus;
+import com.goorm.travelshopping.inventory.FlashSaleInventory;
+import com.goorm.travelshopping.repository.AdminProductQuery;
+import com.goorm.travelshopping.repository.AdminProductSort;
+import com.goorm.travelshopping.service.ProductExportService;
+import com.goorm.travelshopping.service.ProductFileFormat;
+import com.goorm.travelshopping.service.ProductImportService;
 import com.goorm.travelshopping.service.ProductService;
+import com.goorm.travelshopping.stats.ProductVisitorTracker;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -19,21 +40,66 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/admin/products")
 @PreAuthorize("hasRole('ADMIN')")
+@Validated
 public class AdminProductController {
 
     private final ProductService productService;
+    private final ProductSearchCache productSearchCache;
+    private final ProductVisitorTracker productVisitorTracker;
+    private final ProductImportService productImportService;
+    private final ProductExportService productExportService;
+    private final FlashSaleInventory flashSaleInventory;
 
-    public AdminProductController(ProductService productService) {
+    public AdminProductController(ProductService productService,
+                                  ProductSearchCache productSearchCache,
+                                  ProductVisitorTracker productVisitorTracker,
+                                  ProductImportService productImportService,
+                                  ProductExportService productExportService,
+                                  FlashSaleInventory flashSaleInventory) {
         this.productService = productService;
+        this.productSearchCache = productSearchCache;
+        this.productVisitorTracker = productVisitorTracker;
+        this.productImportService = productImportService;
+        this.productExportService = productExportService;
+        this.flashSaleInventory = flashSaleInventory;
     }
 
     @GetMapping
-    public List<ProductDetailResponse> getProducts(@RequestParam(required = false) ProductStatus status) {
-        return productService.getProductsForAdmin(status);
+    public AdminProductPageResponse getProducts(
+            @RequestParam(required = false) ProductStatus status,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String namePrefix,
+            @RequestParam(required = false) @Min(value = 0, message = "재고 기준은 0 이상이어야 합니다.") Integer stockBelow,
+            @RequestParam(defaultValue = "LATEST") AdminProductSort sort,
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "페이지 번호는 0 이상이어야 합니다.") int page,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size
+    ) {
+        AdminProductQuery query = new AdminProductQuery(status, categoryId, namePrefix, stockBelow, sort, page, size);
+        return productService.getProductsForAdmin(query);
+    }
+
+    @GetMapping("/search-cache/stats")
+    public ProductSearchCache.Stats getSearchCacheStats() {
+        return productSearchCache.stats();
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(defaultValue = "NDJSON") ProductFileFormat format) {
+        StreamingResponseBody body = out -> productExportService.export(format, out);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("products." + format.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
     }
 
     @GetMapping("/{productId}")
@@ -41,18 +107,45 @@ public class AdminProductController {
         return productService.getProductDetail(productId);
     }
 
+    @GetMapping("/{productId}/images")
+    public List<ProductImageResponse> getProductImages(@PathVariable Long productId) {
+        return productService.getProductImages(productId);
+    }
+
+    @GetMapping("/{productId}/visitors")
+    public ProductVisitorStatsResponse getVisitorStats(
+            @PathVariable Long productId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return productVisitorTracker.getVisitorStats(productId, from, to);
+    }
+
     @PostMapping
     public ResponseEntity<ProductDetailResponse> createProduct(@Valid @RequestBody ProductCreateRequest request) {
         ProductDetailResponse response = productService.createProduct(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // 본문을 한 줄씩 읽어 저장하므로 요청 크기와 관계없이 메모리 사용량이 일정하다.
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ProductImportResponse importProducts(HttpServletRequest request) throws IOException {
+        ProductFileFormat format = ProductFileFormat.fromContentType(request.getContentType());
+        return productImportService.importProducts(request.getInputStream(), format);
+    }
+
     @PutMapping("/{productId}")
     public ProductDetailResponse updateProduct(@PathVariable Long productId,
                                                @Valid @RequestBody ProductUpdateRequest request) {
         return productService.updateProduct(productId, request);
     }
 
+    @PutMapping("/{productId}/flash-sale")
+    public ResponseEntity<Void> setFlashSale(@PathVariable Long productId, @RequestParam boolean enabled) {
+        flashSaleInventory.setFlashSale(productId, enabled);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{productId}")
     public ResponseEntity<Void> deleteProduct(@PathVariable Long productId) {
         productService.deleteProduct(productId);
@@ -0,0 +1,45 @@
+package com.goorm.travelshopping.controller;
+
+import com.goorm.travelshopping.dto.campaign.SaleCampaignCreateRequest;
+import com.goorm.travelshopping.dto.campaign.SaleCampaignResponse;
+import com.goorm.travelshopping.service.SaleCampaignService;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/sale-campaigns")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminSaleCampaignController {
+
+    private final SaleCampaignService saleCampaignService;
+
+    public AdminSaleCampaignController(SaleCampaignService saleCampaignService) {
+        this.saleCampaignService = saleCampaignService;
+    }
+
+    @GetMapping
+    public List<SaleCampaignResponse> getCampaigns() {
+        return saleCampaignService.getCampaigns();
+    }
+
+    @PostMapping
+    public ResponseEntity<SaleCampaignResponse> createCampaign(@Valid @RequestBody SaleCampaignCreateRequest request) {
+        SaleCampaignResponse response = saleCampaignService.createCampaign(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @DeleteMapping("/{campaignId}")
+    public SaleCampaignResponse cancelCampaign(@PathVariable Long campaignId) {
+        return saleCampaignService.cancelCampaign(campaignId);
+    }
+}
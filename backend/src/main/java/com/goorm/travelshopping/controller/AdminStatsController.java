@@ -0,0 +1,36 @@
+package com.goorm.travelshopping.controller;
+
+import com.goorm.travelshopping.dto.stats.DashboardStatsResponse;
+import com.goorm.travelshopping.stats.DashboardCounters;
+import com.goorm.travelshopping.stats.DashboardStatsBroadcaster;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/admin/stats")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminStatsController {
+
+    private final DashboardCounters dashboardCounters;
+    private final DashboardStatsBroadcaster dashboardStatsBroadcaster;
+
+    public AdminStatsController(DashboardCounters dashboardCounters,
+                                DashboardStatsBroadcaster dashboardStatsBroadcaster) {
+        this.dashboardCounters = dashboardCounters;
+        this.dashboardStatsBroadcaster = dashboardStatsBroadcaster;
+    }
+
+    @GetMapping
+    public DashboardStatsResponse getStats() {
+        return dashboardCounters.snapshot();
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStats() {
+        return dashboardStatsBroadcaster.subscribe();
+    }
+}
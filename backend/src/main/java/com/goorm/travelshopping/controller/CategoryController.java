@@ -1,8 +1,12 @@
 package com.goorm.travelshopping.controller;
 
+import com.goorm.travelshopping.cache.CategoryTreeSnapshot;
+import com.goorm.travelshopping.dto.product.CategoryProductCountResponse;
 import com.goorm.travelshopping.dto.product.CategoryResponse;
-import com.goorm.travelshopping.service.ProductService;
+import com.goorm.travelshopping.service.CategoryService;
 import java.util.List;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -11,14 +15,24 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/categories")
 public class CategoryController {
 
-    private final ProductService productService;
+    private final CategoryService categoryService;
 
-    public CategoryController(ProductService productService) {
-        this.productService = productService;
+    public CategoryController(CategoryService categoryService) {
+        this.categoryService = categoryService;
     }
 
     @GetMapping
-    public List<CategoryResponse> getCategories() {
-        return productService.getCategories();
+    public ResponseEntity<List<CategoryResponse>> getCategories() {
+        // ETag가 If-None-Match와 일치하면 스프링이 본문 없이 304로 응답한다.
+        CategoryTreeSnapshot tree = categoryService.getCategoryTree();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(tree.etag())
+                .body(tree.categories());
+    }
+
+    @GetMapping("/product-counts")
+    public List<CategoryProductCountResponse> getProductCounts() {
+        return categoryService.getProductCounts();
     }
 }
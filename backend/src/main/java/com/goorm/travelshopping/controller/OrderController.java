@@ -1,28 +1,39 @@
 package com.goorm.travelshopping.controller;
 
+import com.goorm.travelshopping.dto.order.AdminOrderPageResponse;
 import com.goorm.travelshopping.dto.order.OrderCreateRequest;
 import com.goorm.travelshopping.dto.order.OrderDetailResponse;
 import com.goorm.travelshopping.dto.order.OrderSummaryResponse;
 import com.goorm.travelshopping.dto.order.UpdateOrderStatusRequest;
+import com.goorm.travelshopping.entity.enums.OrderStatus;
+import com.goorm.travelshopping.entity.enums.PaymentStatus;
 import com.goorm.travelshopping.security.CustomUserDetails;
 import com.goorm.travelshopping.service.OrderService;
 import com.goorm.travelshopping.service.UserService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/orders")
+@Validated
 public class OrderController {
 
     private final OrderService orderService;
@@ -47,8 +58,20 @@ public class OrderController {
 
     @GetMapping("/admin/all")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<OrderSummaryResponse> getAllOrders() {
-        return orderService.getAllOrders();
+    public AdminOrderPageResponse getAllOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) PaymentStatus paymentStatus,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size
+    ) {
+        return orderService.getOrdersForAdmin(status, paymentStatus, from, to, userId, minAmount, maxAmount, cursor, size);
     }
 
     @GetMapping("/{orderNumber}")
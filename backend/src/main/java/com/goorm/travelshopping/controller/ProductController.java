@@ -1,10 +1,33 @@
 package com.goorm.travelshopping.controller;
 
+import com.goorm.travelshopping.cache.ProductDetailPayload;
 import com.goorm.travelshopping.dto.product.ProductDetailResponse;
+import com.goorm.travelshopping.dto.product.ProductPageResponse;
+import com.goorm.travelshopping.dto.product.ProductSearchResponse;
+import com.goorm.travelshopping.dto.product.ProductSuggestResponse;
 import com.goorm.travelshopping.dto.product.ProductSummaryResponse;
+import com.goorm.travelshopping.repository.ProductSort;
+import com.goorm.travelshopping.search.PriceBand;
+import com.goorm.travelshopping.search.ProductFacetIndex;
+import com.goorm.travelshopping.search.ProductSuggestIndex;
+import com.goorm.travelshopping.search.RatingBand;
+import com.goorm.travelshopping.search.SearchMode;
+import com.goorm.travelshopping.security.CustomUserDetails;
 import com.goorm.travelshopping.service.ProductService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import java.util.List;
+import java.util.Locale;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -24,15 +47,98 @@ public class ProductController {
     }
 
     @GetMapping
-    public List<ProductSummaryResponse> getProducts(
+    public ProductPageResponse getProducts(
             @RequestParam(required = false) String keyword,
-            @RequestParam(required = false) @Min(value = 1, message = "카테고리 ID는 1 이상이어야 합니다.") Long categoryId
+            @RequestParam(defaultValue = "KEYWORD") SearchMode mode,
+            @RequestParam(required = false) @Min(value = 1, message = "카테고리 ID는 1 이상이어야 합니다.") Long categoryId,
+            @RequestParam(required = false) ProductSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size
     ) {
-        return productService.getProducts(keyword, categoryId);
+        return productService.getProducts(keyword, mode, categoryId, sort, cursor, size);
+    }
+
+    @GetMapping("/search")
+    public ProductSearchResponse searchProducts(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "KEYWORD") SearchMode mode,
+            @RequestParam(required = false) @Min(value = 1, message = "카테고리 ID는 1 이상이어야 합니다.") Long categoryId,
+            @RequestParam(required = false) List<PriceBand> priceBand,
+            @RequestParam(required = false) List<RatingBand> ratingBand,
+            @RequestParam(defaultValue = "false") boolean inStock,
+            @RequestParam(defaultValue = "0")
+            @Min(value = 0, message = "페이지 번호는 0 이상이어야 합니다.")
+            @Max(value = ProductService.MAX_RANKED_OFFSET, message = "페이지 번호는 10000 이하여야 합니다.") int page,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size
+    ) {
+        ProductFacetIndex.FacetFilter filter = new ProductFacetIndex.FacetFilter(categoryId, priceBand, ratingBand, inStock);
+        return productService.searchProducts(keyword, mode, filter, page, size);
+    }
+
+    @GetMapping("/suggest")
+    public ProductSuggestResponse suggest(
+            @RequestParam @NotBlank(message = "검색어를 입력해주세요.") String prefix,
+            @RequestParam(defaultValue = "10")
+            @Min(value = 1, message = "추천 개수는 1 이상이어야 합니다.")
+            @Max(value = ProductSuggestIndex.MAX_SUGGESTIONS, message = "추천 개수는 10 이하여야 합니다.") int limit
+    ) {
+        return productService.suggest(prefix, limit);
+    }
+
+    @GetMapping("/trending")
+    public List<ProductSummaryResponse> getTrendingProducts(
+            @RequestParam(defaultValue = "10")
+            @Min(value = 1, message = "조회 개수는 1 이상이어야 합니다.")
+            @Max(value = 50, message = "조회 개수는 50 이하여야 합니다.") int limit
+    ) {
+        return productService.getTrendingProducts(limit);
+    }
+
+    @GetMapping("/batch")
+    public List<ProductDetailResponse> getProductDetails(
+            @RequestParam @NotEmpty(message = "상품 ID를 입력해주세요.")
+            @Size(max = ProductService.MAX_BATCH_SIZE, message = "한 번에 조회할 수 있는 상품은 50개 이하입니다.") List<Long> ids
+    ) {
+        return productService.getProductDetails(ids);
     }
 
     @GetMapping("/{productId}")
-    public ProductDetailResponse getProductDetail(@PathVariable Long productId) {
-        return productService.increaseViewAndGetDetail(productId);
+    public ResponseEntity<byte[]> getProductDetail(@PathVariable Long productId,
+                                                   @AuthenticationPrincipal CustomUserDetails userDetails,
+                                                   HttpServletRequest request) {
+        ProductDetailPayload payload = productService.getDetailAndRecordView(productId, visitorKey(userDetails, request));
+        boolean gzipped = acceptsGzip(request);
+
+        // 직렬화된 본문을 그대로 내보내며, ETag가 If-None-Match와 일치하면 스프링이 본문 없이 304로 응답한다.
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .eTag(payload.etag(gzipped));
+        if (gzipped) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(payload.body(gzipped));
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    // 로그인 사용자는 회원 ID, 그 외에는 기존 세션 또는 접속 주소와 User-Agent로 방문자를 구분한다. 조회만으로 세션을 만들지는 않는다.
+    private String visitorKey(CustomUserDetails userDetails, HttpServletRequest request) {
+        if (userDetails != null) {
+            return "user:" + userDetails.getId();
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return "session:" + session.getId();
+        }
+        return "anonymous:" + request.getRemoteAddr() + "|" + request.getHeader(HttpHeaders.USER_AGENT);
     }
 }
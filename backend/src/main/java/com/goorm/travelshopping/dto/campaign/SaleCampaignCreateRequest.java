@@ -0,0 +1,34 @@
+package com.goorm.travelshopping.dto.campaign;
+
+import com.goorm.travelshopping.entity.enums.DiscountType;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record SaleCampaignCreateRequest(
+        @NotBlank(message = "행사명은 필수입니다.")
+        String name,
+
+        @NotNull(message = "할인 방식은 필수입니다.")
+        DiscountType discountType,
+
+        @NotNull(message = "할인 값은 필수입니다.")
+        @DecimalMin(value = "0.0", inclusive = false, message = "할인 값은 0보다 커야 합니다.")
+        BigDecimal discountValue,
+
+        Long categoryId,
+
+        @Size(max = 5000, message = "행사 상품은 5000개 이하로 지정해야 합니다.")
+        Set<Long> productIds,
+
+        @NotNull(message = "시작 시각은 필수입니다.")
+        LocalDateTime startsAt,
+
+        @NotNull(message = "종료 시각은 필수입니다.")
+        LocalDateTime endsAt
+) {
+}
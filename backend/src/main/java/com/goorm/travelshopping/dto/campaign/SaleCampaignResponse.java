@@ -0,0 +1,21 @@
+package com.goorm.travelshopping.dto.campaign;
+
+import com.goorm.travelshopping.entity.enums.DiscountType;
+import com.goorm.travelshopping.entity.enums.SaleCampaignStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record SaleCampaignResponse(
+        Long id,
+        String name,
+        DiscountType discountType,
+        BigDecimal discountValue,
+        Long categoryId,
+        Set<Long> productIds,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        SaleCampaignStatus status,
+        Integer appliedProductCount
+) {
+}
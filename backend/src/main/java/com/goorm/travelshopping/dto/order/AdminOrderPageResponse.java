@@ -0,0 +1,10 @@
+package com.goorm.travelshopping.dto.order;
+
+import java.util.List;
+
+public record AdminOrderPageResponse(
+        List<AdminOrderSummaryResponse> items,
+        String nextCursor,
+        boolean hasNext
+) {
+}
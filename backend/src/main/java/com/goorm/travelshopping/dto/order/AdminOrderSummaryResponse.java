@@ -0,0 +1,21 @@
+package com.goorm.travelshopping.dto.order;
+
+import com.goorm.travelshopping.entity.enums.OrderStatus;
+import com.goorm.travelshopping.entity.enums.PaymentMethod;
+import com.goorm.travelshopping.entity.enums.PaymentStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record AdminOrderSummaryResponse(
+        String orderNumber,
+        Long userId,
+        String userEmail,
+        OrderStatus status,
+        PaymentMethod paymentMethod,
+        PaymentStatus paymentStatus,
+        BigDecimal finalAmount,
+        LocalDateTime orderDate,
+        List<OrderItemResponse> items
+) {
+}
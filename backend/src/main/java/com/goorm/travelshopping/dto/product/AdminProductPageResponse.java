@@ -0,0 +1,11 @@
+package com.goorm.travelshopping.dto.product;
+
+import java.util.List;
+
+public record AdminProductPageResponse(
+        List<AdminProductRowResponse> items,
+        long total,
+        int page,
+        int size
+) {
+}
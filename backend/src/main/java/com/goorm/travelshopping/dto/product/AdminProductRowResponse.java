@@ -0,0 +1,19 @@
+package com.goorm.travelshopping.dto.product;
+
+import com.goorm.travelshopping.entity.enums.ProductStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record AdminProductRowResponse(
+        Long id,
+        String name,
+        ProductStatus status,
+        BigDecimal price,
+        BigDecimal salePrice,
+        BigDecimal effectivePrice,
+        Integer stockQuantity,
+        Long categoryId,
+        String categoryName,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,22 @@
+package com.goorm.travelshopping.dto.product;
+
+import com.goorm.travelshopping.entity.enums.CategoryStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record CategoryCreateRequest(
+        @NotBlank(message = "카테고리명은 필수입니다.")
+        String name,
+
+        String description,
+
+        Long parentId,
+
+        @NotNull(message = "정렬 순서는 필수입니다.")
+        @PositiveOrZero(message = "정렬 순서는 0 이상이어야 합니다.")
+        Integer sortOrder,
+
+        CategoryStatus status
+) {
+}
@@ -0,0 +1,6 @@
+package com.goorm.travelshopping.dto.product;
+
+public record CategoryMoveRequest(
+        Long parentId
+) {
+}
@@ -0,0 +1,7 @@
+package com.goorm.travelshopping.dto.product;
+
+public record CategoryProductCountResponse(
+        Long categoryId,
+        Long productCount
+) {
+}
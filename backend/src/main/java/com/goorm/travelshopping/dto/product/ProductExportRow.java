@@ -0,0 +1,21 @@
+package com.goorm.travelshopping.dto.product;
+
+import com.goorm.travelshopping.entity.enums.ProductStatus;
+import java.math.BigDecimal;
+import java.util.List;
+
+public record ProductExportRow(
+        Long id,
+        Long categoryId,
+        String categoryName,
+        String name,
+        String shortDescription,
+        String description,
+        BigDecimal price,
+        BigDecimal salePrice,
+        Integer stockQuantity,
+        String mainImageUrl,
+        ProductStatus status,
+        List<ProductImageResponse> images
+) {
+}
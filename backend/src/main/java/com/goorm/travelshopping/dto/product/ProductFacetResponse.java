@@ -0,0 +1,13 @@
+package com.goorm.travelshopping.dto.product;
+
+import com.goorm.travelshopping.search.PriceBand;
+import com.goorm.travelshopping.search.RatingBand;
+import java.util.Map;
+
+public record ProductFacetResponse(
+        Map<Long, Long> categories,
+        Map<PriceBand, Long> priceBands,
+        Map<RatingBand, Long> ratingBands,
+        long inStock
+) {
+}
@@ -0,0 +1,17 @@
+package com.goorm.travelshopping.dto.product;
+
+import java.util.List;
+
+public record ProductImportResponse(
+        int totalRows,
+        int importedRows,
+        int failedRows,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+    public record RowError(
+            long line,
+            String message
+    ) {
+    }
+}
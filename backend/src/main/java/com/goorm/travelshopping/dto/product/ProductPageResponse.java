@@ -0,0 +1,10 @@
+package com.goorm.travelshopping.dto.product;
+
+import java.util.List;
+
+public record ProductPageResponse(
+        List<ProductSummaryResponse> items,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,12 @@
+package com.goorm.travelshopping.dto.product;
+
+import java.util.List;
+
+public record ProductSearchResponse(
+        List<ProductSummaryResponse> items,
+        long total,
+        int page,
+        int size,
+        ProductFacetResponse facets
+) {
+}
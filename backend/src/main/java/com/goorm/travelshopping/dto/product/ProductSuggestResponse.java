@@ -0,0 +1,14 @@
+package com.goorm.travelshopping.dto.product;
+
+import java.util.List;
+
+public record ProductSuggestResponse(
+        List<SuggestItem> products,
+        List<SuggestItem> categories
+) {
+    public record SuggestItem(
+            Long id,
+            String name
+    ) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.goorm.travelshopping.dto.product;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ProductVisitorStatsResponse(
+        Long productId,
+        LocalDate from,
+        LocalDate to,
+        long uniqueVisitors,
+        List<DailyVisitors> daily
+) {
+    public record DailyVisitors(
+            LocalDate date,
+            long uniqueVisitors
+    ) {
+    }
+}
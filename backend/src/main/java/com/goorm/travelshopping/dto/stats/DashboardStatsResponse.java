@@ -0,0 +1,15 @@
+package com.goorm.travelshopping.dto.stats;
+
+import com.goorm.travelshopping.entity.enums.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record DashboardStatsResponse(
+        Map<OrderStatus, Long> ordersByStatus,
+        BigDecimal revenueToday,
+        BigDecimal revenueThisMonth,
+        long activeUsers,
+        LocalDateTime asOf
+) {
+}
@@ -0,0 +1,55 @@
+package com.goorm.travelshopping.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+@Entity
+@Table(name = "category_closure",
+        uniqueConstraints = @UniqueConstraint(name = "uk_category_closure", columnNames = {"ancestor_id", "descendant_id"}),
+        indexes = @Index(name = "idx_category_closure_descendant", columnList = "descendant_id"))
+public class CategoryClosure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private Integer depth;
+
+    public CategoryClosure() {
+    }
+
+    public CategoryClosure(Long ancestorId, Long descendantId, Integer depth) {
+        this.ancestorId = ancestorId;
+        this.descendantId = descendantId;
+        this.depth = depth;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAncestorId() {
+        return ancestorId;
+    }
+
+    public Long getDescendantId() {
+        return descendantId;
+    }
+
+    public Integer getDepth() {
+        return depth;
+    }
+}
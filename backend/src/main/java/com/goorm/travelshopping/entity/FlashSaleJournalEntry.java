@@ -0,0 +1,58 @@
+package com.goorm.travelshopping.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 한정 수량 판매 주문이 확정한 재고 차감 중 아직 products에 반영되지 않은 항목.
+ * 주문과 같은 트랜잭션에서 추가되고, FlashSaleInventory가 products에 반영한 뒤 지운다. JDBC로만 읽고 쓴다.
+ */
+@Entity
+@Table(name = "flash_sale_journal", indexes = @Index(name = "idx_flash_sale_journal_product", columnList = "product_id"))
+public class FlashSaleJournalEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "order_number", length = 30, nullable = false)
+    private String orderNumber;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public FlashSaleJournalEntry() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -22,7 +23,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_order_date", columnList = "order_date, id"),
+        @Index(name = "idx_orders_status_date", columnList = "status, order_date, id"),
+        @Index(name = "idx_orders_payment_status_date", columnList = "payment_status, order_date, id"),
+        @Index(name = "idx_orders_user_date", columnList = "user_id, order_date, id")
+})
 public class Order extends BaseEntity {
 
     @Id
@@ -1,7 +1,6 @@
 package com.goorm.travelshopping.entity;
 
 import com.goorm.travelshopping.entity.enums.ProductStatus;
-import com.goorm.travelshopping.exception.BadRequestException;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,20 +10,38 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.PrimaryKeyJoinColumn;
+import jakarta.persistence.SecondaryTable;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_products_status_price", columnList = "status, effective_price, id"),
+        @Index(name = "idx_products_status_rating", columnList = "status, rating_avg, id"),
+        @Index(name = "idx_products_name", columnList = "name"),
+        @Index(name = "idx_products_sale_campaign", columnList = "sale_campaign_id")
+})
+// 조회수는 ProductViewCounter가 배치로만 갱신하므로 별도 테이블에 두어 products 행 잠금과 분리한다.
+@SecondaryTable(name = "product_view_stats",
+        pkJoinColumns = @PrimaryKeyJoinColumn(name = "product_id"),
+        indexes = @Index(name = "idx_product_view_stats_count", columnList = "view_count, product_id"))
 public class Product extends BaseEntity {
 
+    // IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 배치가 꺼지므로, 50개씩 미리 할당받는 시퀀스를 쓴다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_id_seq")
+    @SequenceGenerator(name = "product_id_seq", sequenceName = "product_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -46,9 +63,24 @@ public class Product extends BaseEntity {
     @Column(name = "sale_price", precision = 12, scale = 2)
     private BigDecimal salePrice;
 
+    // 정렬 인덱스용으로 저장하는 실판매가(할인가가 있으면 할인가, 없으면 정가)
+    @Column(name = "effective_price", nullable = false, precision = 12, scale = 2)
+    private BigDecimal effectivePrice;
+
+    // 할인 행사가 적용 중이면 행사 ID와 행사 전 할인가를 두어 종료 시 그대로 되돌린다.
+    @Column(name = "sale_campaign_id")
+    private Long saleCampaignId;
+
+    @Column(name = "original_sale_price", precision = 12, scale = 2)
+    private BigDecimal originalSalePrice;
+
     @Column(name = "stock_quantity", nullable = false)
     private Integer stockQuantity;
 
+    // 한정 수량 판매 상품은 재고를 FlashSaleLedger가 메모리에서 관리하고 DB에는 모아서 반영한다.
+    @Column(name = "flash_sale", nullable = false)
+    private boolean flashSale;
+
     @Column(name = "main_image_url", length = 255)
     private String mainImageUrl;
 
@@ -56,7 +88,7 @@ public class Product extends BaseEntity {
     @Column(length = 20, nullable = false)
     private ProductStatus status;
 
-    @Column(name = "view_count")
+    @Column(name = "view_count", table = "product_view_stats", insertable = false, updatable = false)
     private Long viewCount;
 
     @Column(name = "rating_avg", precision = 3, scale = 2)
@@ -123,6 +155,22 @@ public class Product extends BaseEntity {
         this.salePrice = salePrice;
     }
 
+    public Long getSaleCampaignId() {
+        return saleCampaignId;
+    }
+
+    public BigDecimal getOriginalSalePrice() {
+        return originalSalePrice;
+    }
+
+    /**
+     * 관리자가 가격을 직접 수정하면 행사 종료 시 이전 할인가로 덮어쓰지 않도록 행사에서 뺀다.
+     */
+    public void leaveSaleCampaign() {
+        this.saleCampaignId = null;
+        this.originalSalePrice = null;
+    }
+
     public Integer getStockQuantity() {
         return stockQuantity;
     }
@@ -131,6 +179,14 @@ public class Product extends BaseEntity {
         this.stockQuantity = stockQuantity;
     }
 
+    public boolean isFlashSale() {
+        return flashSale;
+    }
+
+    public void setFlashSale(boolean flashSale) {
+        this.flashSale = flashSale;
+    }
+
     public String getMainImageUrl() {
         return mainImageUrl;
     }
@@ -151,10 +207,6 @@ public class Product extends BaseEntity {
         return viewCount;
     }
 
-    public void setViewCount(Long viewCount) {
-        this.viewCount = viewCount;
-    }
-
     public BigDecimal getRatingAverage() {
         return ratingAverage;
     }
@@ -183,18 +235,9 @@ public class Product extends BaseEntity {
         return this.salePrice != null ? this.salePrice : this.price;
     }
 
-    public void increaseViewCount() {
-        this.viewCount = (this.viewCount == null ? 0 : this.viewCount) + 1;
-    }
-
-    public void decreaseStock(int quantity) {
-        if (quantity <= 0) {
-            throw new BadRequestException("차감 수량은 1 이상이어야 합니다.");
-        }
-        int remaining = (this.stockQuantity == null ? 0 : this.stockQuantity) - quantity;
-        if (remaining < 0) {
-            throw new BadRequestException("상품 재고가 부족합니다.");
-        }
-        this.stockQuantity = remaining;
+    @PrePersist
+    @PreUpdate
+    void syncEffectivePrice() {
+        this.effectivePrice = getEffectivePrice();
     }
 }
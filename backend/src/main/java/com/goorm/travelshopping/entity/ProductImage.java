@@ -8,14 +8,17 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "product_images")
 public class ProductImage extends BaseEntity {
 
+    // IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 배치가 꺼지므로, 50개씩 미리 할당받는 시퀀스를 쓴다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_image_id_seq")
+    @SequenceGenerator(name = "product_image_id_seq", sequenceName = "product_image_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,59 @@
+package com.goorm.travelshopping.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "product_visitor_sketches",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_visitor_sketch", columnNames = {"product_id", "visit_date"}))
+public class ProductVisitorSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "visit_date", nullable = false)
+    private LocalDate visitDate;
+
+    // HyperLogLog 레지스터 배열
+    @Column(nullable = false, length = 1024)
+    private byte[] registers;
+
+    public ProductVisitorSketch() {
+    }
+
+    public ProductVisitorSketch(Long productId, LocalDate visitDate, byte[] registers) {
+        this.productId = productId;
+        this.visitDate = visitDate;
+        this.registers = registers;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public LocalDate getVisitDate() {
+        return visitDate;
+    }
+
+    public byte[] getRegisters() {
+        return registers;
+    }
+
+    public void setRegisters(byte[] registers) {
+        this.registers = registers;
+    }
+}
@@ -0,0 +1,145 @@
+package com.goorm.travelshopping.entity;
+
+import com.goorm.travelshopping.entity.enums.DiscountType;
+import com.goorm.travelshopping.entity.enums.SaleCampaignStatus;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 지정한 상품들과 카테고리(하위 포함)에 기간 동안 할인가를 일괄 적용하는 판촉 행사.
+ */
+@Entity
+@Table(name = "sale_campaigns", indexes = {
+        @Index(name = "idx_sale_campaigns_status_starts", columnList = "status, starts_at"),
+        @Index(name = "idx_sale_campaigns_status_ends", columnList = "status, ends_at")
+})
+public class SaleCampaign extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 100, nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "discount_type", length = 20, nullable = false)
+    private DiscountType discountType;
+
+    @Column(name = "discount_value", nullable = false, precision = 12, scale = 2)
+    private BigDecimal discountValue;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @ElementCollection
+    @CollectionTable(name = "sale_campaign_products", joinColumns = @JoinColumn(name = "campaign_id"))
+    @Column(name = "product_id", nullable = false)
+    private Set<Long> productIds = new HashSet<>();
+
+    @Column(name = "starts_at", nullable = false)
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at", nullable = false)
+    private LocalDateTime endsAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private SaleCampaignStatus status;
+
+    @Column(name = "applied_product_count", nullable = false)
+    private Integer appliedProductCount = 0;
+
+    public SaleCampaign() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public DiscountType getDiscountType() {
+        return discountType;
+    }
+
+    public void setDiscountType(DiscountType discountType) {
+        this.discountType = discountType;
+    }
+
+    public BigDecimal getDiscountValue() {
+        return discountValue;
+    }
+
+    public void setDiscountValue(BigDecimal discountValue) {
+        this.discountValue = discountValue;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public Set<Long> getProductIds() {
+        return productIds;
+    }
+
+    public void setProductIds(Set<Long> productIds) {
+        this.productIds = productIds;
+    }
+
+    public LocalDateTime getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(LocalDateTime startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public LocalDateTime getEndsAt() {
+        return endsAt;
+    }
+
+    public void setEndsAt(LocalDateTime endsAt) {
+        this.endsAt = endsAt;
+    }
+
+    public SaleCampaignStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(SaleCampaignStatus status) {
+        this.status = status;
+    }
+
+    public Integer getAppliedProductCount() {
+        return appliedProductCount;
+    }
+
+    public void setAppliedProductCount(Integer appliedProductCount) {
+        this.appliedProductCount = appliedProductCount;
+    }
+}
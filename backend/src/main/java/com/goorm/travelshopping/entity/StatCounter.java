@@ -0,0 +1,52 @@
+package com.goorm.travelshopping.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+
+/**
+ * 관리자 대시보드 집계 카운터. 같은 키를 여러 슬롯으로 나눠 두어 주문이 몰릴 때 한 행의 잠금을 기다리지 않게 하고,
+ * 읽을 때는 슬롯 값을 모두 더한다. 값은 DashboardCounters가 JDBC로만 갱신한다.
+ */
+@Entity
+@Table(name = "stat_counters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stat_counter", columnNames = {"counter_key", "slot"}))
+public class StatCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "counter_key", length = 60, nullable = false)
+    private String counterKey;
+
+    @Column(nullable = false)
+    private Integer slot;
+
+    @Column(name = "counter_value", nullable = false, precision = 19, scale = 2)
+    private BigDecimal counterValue;
+
+    public StatCounter() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getCounterKey() {
+        return counterKey;
+    }
+
+    public Integer getSlot() {
+        return slot;
+    }
+
+    public BigDecimal getCounterValue() {
+        return counterValue;
+    }
+}
@@ -0,0 +1,6 @@
+package com.goorm.travelshopping.entity.enums;
+
+public enum DiscountType {
+    PERCENT,
+    AMOUNT
+}
@@ -0,0 +1,8 @@
+package com.goorm.travelshopping.entity.enums;
+
+public enum SaleCampaignStatus {
+    SCHEDULED,
+    ACTIVE,
+    ENDED,
+    CANCELLED
+}
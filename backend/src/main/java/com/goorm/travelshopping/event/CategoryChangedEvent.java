@@ -0,0 +1,6 @@
+package com.goorm.travelshopping.event;
+
+public record CategoryChangedEvent(
+        Long categoryId
+) {
+}
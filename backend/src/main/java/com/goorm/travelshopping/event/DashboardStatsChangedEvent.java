@@ -0,0 +1,4 @@
+package com.goorm.travelshopping.event;
+
+public record DashboardStatsChangedEvent() {
+}
@@ -0,0 +1,7 @@
+package com.goorm.travelshopping.event;
+
+public record FlashSaleChangedEvent(
+        Long productId,
+        boolean enabled
+) {
+}
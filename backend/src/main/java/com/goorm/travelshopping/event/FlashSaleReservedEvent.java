@@ -0,0 +1,7 @@
+package com.goorm.travelshopping.event;
+
+public record FlashSaleReservedEvent(
+        Long productId,
+        int quantity
+) {
+}
@@ -0,0 +1,8 @@
+package com.goorm.travelshopping.event;
+
+import java.util.Map;
+
+public record OrderPlacedEvent(
+        Map<Long, Integer> quantitiesByProduct
+) {
+}
@@ -0,0 +1,24 @@
+package com.goorm.travelshopping.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * stockOnly가 true면 재고만 바뀐 것이다. 목록 응답에는 재고가 없으므로 목록 캐시를 비우지 않아도 된다.
+ */
+public record ProductChangedEvent(
+        Collection<Long> productIds,
+        boolean stockOnly
+) {
+    public ProductChangedEvent(Collection<Long> productIds) {
+        this(productIds, false);
+    }
+
+    public static ProductChangedEvent of(Long productId) {
+        return new ProductChangedEvent(List.of(productId));
+    }
+
+    public static ProductChangedEvent stockChanged(Collection<Long> productIds) {
+        return new ProductChangedEvent(productIds, true);
+    }
+}
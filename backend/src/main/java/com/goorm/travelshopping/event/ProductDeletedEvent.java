@@ -0,0 +1,6 @@
+package com.goorm.travelshopping.event;
+
+public record ProductDeletedEvent(
+        Long productId
+) {
+}
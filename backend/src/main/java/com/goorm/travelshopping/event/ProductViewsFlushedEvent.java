@@ -0,0 +1,8 @@
+package com.goorm.travelshopping.event;
+
+import java.util.Map;
+
+public record ProductViewsFlushedEvent(
+        Map<Long, Long> viewsByProduct
+) {
+}
@@ -0,0 +1,193 @@
+package com.goorm.travelshopping.inventory;
+
+import com.goorm.travelshopping.entity.Product;
+import com.goorm.travelshopping.event.FlashSaleChangedEvent;
+import com.goorm.travelshopping.event.FlashSaleReservedEvent;
+import com.goorm.travelshopping.event.ProductChangedEvent;
+import com.goorm.travelshopping.exception.ResourceNotFoundException;
+import com.goorm.travelshopping.repository.ProductRepository;
+import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 한정 수량 판매 상품의 재고를 메모리 원장(FlashSaleLedger)으로 처리한다.
+ * 주문은 원장에서 예약하고 같은 트랜잭션에서 flash_sale_journal에 한 줄을 추가할 뿐 products 행을 갱신하지 않는다.
+ * 저널은 주기적으로 상품별로 합산해 products에 한 번에 반영하며, 재기동 시에는 DB 재고에서 미반영 저널을 빼 원장을 복원한다.
+ */
+@Component
+public class FlashSaleInventory {
+
+    private static final Logger log = LoggerFactory.getLogger(FlashSaleInventory.class);
+    private static final int FLUSH_BATCH_SIZE = 5000;
+    private static final long SETTLE_TIMEOUT_MILLIS = 5000L;
+
+    private static final String APPEND_SQL = "INSERT INTO flash_sale_journal (product_id, quantity, order_number, created_at) "
+            + "VALUES (?, ?, ?, CURRENT_TIMESTAMP)";
+    private static final String PENDING_SQL = "SELECT id, product_id, quantity FROM flash_sale_journal ORDER BY id LIMIT "
+            + FLUSH_BATCH_SIZE;
+    private static final String APPLY_SQL = "UPDATE products SET stock_quantity = stock_quantity - ?, "
+            + "updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM flash_sale_journal WHERE id IN (:ids)";
+    private static final String AVAILABLE_SQL = "SELECT p.id, p.stock_quantity - COALESCE(SUM(j.quantity), 0) AS available "
+            + "FROM products p LEFT JOIN flash_sale_journal j ON j.product_id = p.id "
+            + "WHERE p.flash_sale = TRUE";
+    private static final String AVAILABLE_GROUP_BY = " GROUP BY p.id, p.stock_quantity";
+
+    private final FlashSaleLedger ledger;
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public FlashSaleInventory(FlashSaleLedger ledger,
+                              ProductRepository productRepository,
+                              JdbcTemplate jdbcTemplate,
+                              NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager) {
+        this.ledger = ledger;
+        this.productRepository = productRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 원장에서 재고를 예약한다. 예약에 성공하면 트랜잭션이 롤백될 때 되돌리도록 이벤트를 남긴다.
+     */
+    public FlashSaleLedger.Reservation reserve(Long productId, int quantity) {
+        FlashSaleLedger.Reservation reservation = ledger.tryReserve(productId, quantity);
+        if (reservation == FlashSaleLedger.Reservation.RESERVED) {
+            eventPublisher.publishEvent(new FlashSaleReservedEvent(productId, quantity));
+        }
+        return reservation;
+    }
+
+    /**
+     * 주문 트랜잭션 안에서 확정된 차감을 저널에 추가한다. 주문과 함께 커밋되므로 재기동해도 차감이 사라지지 않는다.
+     */
+    public void append(String orderNumber, Map<Long, Integer> quantitiesByProduct) {
+        List<Object[]> rows = new ArrayList<>(quantitiesByProduct.size());
+        quantitiesByProduct.forEach((productId, quantity) -> rows.add(new Object[]{productId, quantity, orderNumber}));
+        jdbcTemplate.batchUpdate(APPEND_SQL, rows);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onReservationRolledBack(FlashSaleReservedEvent event) {
+        ledger.release(event.productId(), event.quantity());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onReservationCompleted(FlashSaleReservedEvent event) {
+        ledger.settle(event.productId());
+    }
+
+    // products 행은 이 작업만 갱신하므로 주문끼리 행 잠금을 다투지 않는다.
+    // 커밋 후 리스너에서도 호출되는데 그때는 이미 끝난 트랜잭션이 묶여 있으므로 항상 새 트랜잭션을 연다.
+    @Scheduled(fixedDelayString = "${app.flash-sale.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        transactionTemplate.execute(status -> flushPending());
+    }
+
+    // 한 번에 FLUSH_BATCH_SIZE건까지만 읽으므로 남은 저널이 없을 때까지 반복한다.
+    private synchronized void drain() {
+        Integer flushed;
+        do {
+            flushed = transactionTemplate.execute(status -> flushPending());
+        } while (flushed != null && flushed == FLUSH_BATCH_SIZE);
+    }
+
+    private int flushPending() {
+        List<Long> journalIds = new ArrayList<>();
+        Map<Long, Integer> totals = new TreeMap<>();
+        jdbcTemplate.query(PENDING_SQL, rs -> {
+            journalIds.add(rs.getLong("id"));
+            totals.merge(rs.getLong("product_id"), rs.getInt("quantity"), Integer::sum);
+        });
+        if (journalIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> updates = new ArrayList<>(totals.size());
+        totals.forEach((productId, quantity) -> updates.add(new Object[]{quantity, productId}));
+        jdbcTemplate.batchUpdate(APPLY_SQL, updates);
+        // 읽은 행만 지운다. ID 순서와 커밋 순서가 달라 범위로 지우면 아직 반영하지 않은 행까지 지울 수 있다.
+        namedParameterJdbcTemplate.update(DELETE_SQL, Map.of("ids", journalIds));
+        eventPublisher.publishEvent(ProductChangedEvent.stockChanged(List.copyOf(totals.keySet())));
+        return journalIds.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        Map<Long, Integer> stockByProduct = new HashMap<>();
+        jdbcTemplate.query(AVAILABLE_SQL + AVAILABLE_GROUP_BY,
+                rs -> {
+                    stockByProduct.put(rs.getLong("id"), rs.getInt("available"));
+                });
+        ledger.replaceAll(stockByProduct);
+        log.info("한정 수량 재고 원장 복원: {}개 상품", stockByProduct.size());
+    }
+
+    /**
+     * 판매 시작 전에 켜 두어야 한다. 전환 순간 진행 중이던 일반 주문은 원장에 반영되지 않는다.
+     */
+    @Transactional
+    public void setFlashSale(Long productId, boolean enabled) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다."));
+        if (product.isFlashSale() == enabled) {
+            return;
+        }
+        product.setFlashSale(enabled);
+        eventPublisher.publishEvent(new FlashSaleChangedEvent(productId, enabled));
+    }
+
+    // 끌 때는 추적을 유지한 채 저널을 모두 반영한 뒤에야 놓아준다. 먼저 놓으면 일반 주문이 저널이 빠진 DB 재고로 차감한다.
+    @TransactionalEventListener
+    public void onFlashSaleChanged(FlashSaleChangedEvent event) {
+        if (!event.enabled()) {
+            stopTracking(event.productId());
+            return;
+        }
+        jdbcTemplate.query(AVAILABLE_SQL + " AND p.id = ?" + AVAILABLE_GROUP_BY,
+                rs -> {
+                    ledger.track(rs.getLong("id"), rs.getInt("available"));
+                },
+                event.productId());
+    }
+
+    private void stopTracking(Long productId) {
+        drain();
+        ledger.close(productId);
+        try {
+            if (!ledger.awaitSettled(productId, SETTLE_TIMEOUT_MILLIS)) {
+                log.warn("진행 중인 한정 수량 예약이 끝나지 않았습니다: productId={}", productId);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+        ledger.untrack(productId);
+    }
+}
@@ -0,0 +1,117 @@
+package com.goorm.travelshopping.inventory;
+
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * 한정 수량 판매 상품의 남은 재고를 상품별 AtomicInteger로 들고 있다.
+ * 예약은 compareAndSet으로만 줄이므로 잠금 없이도 0 아래로 내려가지 않는다.
+ */
+@Component
+public class FlashSaleLedger {
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public Reservation tryReserve(Long productId, int quantity) {
+        Entry entry = entries.get(productId);
+        if (entry == null) {
+            return Reservation.NOT_TRACKED;
+        }
+        // 닫힘 여부보다 먼저 진행 중 건수를 올려야, 닫은 뒤 진행 중 건수가 0이면 더 이상 예약이 없다고 볼 수 있다.
+        entry.inFlight.incrementAndGet();
+        if (entry.closed) {
+            entry.inFlight.decrementAndGet();
+            return Reservation.INSUFFICIENT;
+        }
+        while (true) {
+            int current = entry.available.get();
+            if (current < quantity) {
+                entry.inFlight.decrementAndGet();
+                return Reservation.INSUFFICIENT;
+            }
+            if (entry.available.compareAndSet(current, current - quantity)) {
+                return Reservation.RESERVED;
+            }
+        }
+    }
+
+    public void release(Long productId, int quantity) {
+        Entry entry = entries.get(productId);
+        if (entry != null) {
+            entry.available.addAndGet(quantity);
+        }
+    }
+
+    /**
+     * 예약한 트랜잭션이 커밋이든 롤백이든 끝났음을 알린다.
+     */
+    public void settle(Long productId) {
+        Entry entry = entries.get(productId);
+        if (entry != null) {
+            entry.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 새 예약을 받지 않는다. 추적은 유지하므로 일반 주문 경로로 넘어가지도 않는다.
+     */
+    public void close(Long productId) {
+        Entry entry = entries.get(productId);
+        if (entry != null) {
+            entry.closed = true;
+        }
+    }
+
+    /**
+     * 진행 중인 예약이 모두 끝날 때까지 최대 timeoutMillis만큼 기다린다.
+     */
+    public boolean awaitSettled(Long productId, long timeoutMillis) throws InterruptedException {
+        Entry entry = entries.get(productId);
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (entry != null && entry.inFlight.get() > 0) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    public void track(Long productId, int stock) {
+        entries.put(productId, new Entry(Math.max(stock, 0)));
+    }
+
+    public void untrack(Long productId) {
+        entries.remove(productId);
+    }
+
+    public void replaceAll(Map<Long, Integer> stockByProduct) {
+        entries.keySet().retainAll(stockByProduct.keySet());
+        stockByProduct.forEach(this::track);
+    }
+
+    public OptionalInt available(Long productId) {
+        Entry entry = entries.get(productId);
+        return entry != null ? OptionalInt.of(entry.available.get()) : OptionalInt.empty();
+    }
+
+    public enum Reservation {
+        RESERVED,
+        INSUFFICIENT,
+        NOT_TRACKED
+    }
+
+    private static final class Entry {
+
+        private final AtomicInteger available;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean closed;
+
+        private Entry(int stock) {
+            this.available = new AtomicInteger(stock);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.goorm.travelshopping.repository;
+
+import com.goorm.travelshopping.entity.enums.OrderStatus;
+import com.goorm.travelshopping.entity.enums.PaymentStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 주문 검색 조건. 주문일 범위는 [orderedFrom, orderedTo) 이고, 커서가 있으면 그 주문 다음부터 읽는다.
+ */
+public record AdminOrderQuery(
+        OrderStatus status,
+        PaymentStatus paymentStatus,
+        LocalDateTime orderedFrom,
+        LocalDateTime orderedTo,
+        Long userId,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        LocalDateTime afterOrderDate,
+        Long afterId,
+        int limit
+) {
+    public boolean hasCursor() {
+        return afterOrderDate != null && afterId != null;
+    }
+}
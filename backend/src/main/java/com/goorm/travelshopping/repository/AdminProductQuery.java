@@ -0,0 +1,14 @@
+package com.goorm.travelshopping.repository;
+
+import com.goorm.travelshopping.entity.enums.ProductStatus;
+
+public record AdminProductQuery(
+        ProductStatus status,
+        Long categoryId,
+        String namePrefix,
+        Integer stockBelow,
+        AdminProductSort sort,
+        int page,
+        int size
+) {
+}
@@ -0,0 +1,19 @@
+package com.goorm.travelshopping.repository;
+
+public enum AdminProductSort {
+    LATEST("p.createdAt DESC, p.id DESC"),
+    NAME("p.name ASC, p.id ASC"),
+    PRICE_ASC("p.effectivePrice ASC, p.id ASC"),
+    PRICE_DESC("p.effectivePrice DESC, p.id DESC"),
+    STOCK_ASC("p.stockQuantity ASC, p.id ASC");
+
+    private final String orderBy;
+
+    AdminProductSort(String orderBy) {
+        this.orderBy = orderBy;
+    }
+
+    String orderByClause() {
+        return " ORDER BY " + orderBy;
+    }
+}
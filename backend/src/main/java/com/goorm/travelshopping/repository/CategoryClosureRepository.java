@@ -0,0 +1,33 @@
+package com.goorm.travelshopping.repository;
+
+import com.goorm.travelshopping.dto.product.CategoryProductCountResponse;
+import com.goorm.travelshopping.entity.CategoryClosure;
+import com.goorm.travelshopping.entity.enums.ProductStatus;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, Long> {
+
+    List<CategoryClosure> findByDescendantId(Long descendantId);
+
+    List<CategoryClosure> findByAncestorId(Long ancestorId);
+
+    List<CategoryClosure> findByDescendantIdIn(Collection<Long> descendantIds);
+
+    @Query("SELECT c.descendantId FROM CategoryClosure c WHERE c.ancestorId = :ancestorId")
+    List<Long> findDescendantIds(@Param("ancestorId") Long ancestorId);
+
+    @Modifying
+    @Query("DELETE FROM CategoryClosure c WHERE c.descendantId IN :descendantIds AND c.ancestorId NOT IN :descendantIds")
+    int deleteExternalAncestors(@Param("descendantIds") Collection<Long> descendantIds);
+
+    @Query("SELECT new com.goorm.travelshopping.dto.product.CategoryProductCountResponse(c.ancestorId, COUNT(p.id)) "
+            + "FROM CategoryClosure c, Product p "
+            + "WHERE p.category.id = c.descendantId AND p.status = :status "
+            + "GROUP BY c.ancestorId")
+    List<CategoryProductCountResponse> countProductsByAncestor(@Param("status") ProductStatus status);
+}
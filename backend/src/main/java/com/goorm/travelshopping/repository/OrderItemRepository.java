@@ -2,10 +2,16 @@ package com.goorm.travelshopping.repository;
 
 import com.goorm.travelshopping.entity.Order;
 import com.goorm.travelshopping.entity.OrderItem;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
     List<OrderItem> findByOrder(Order order);
+
+    @Query("SELECT oi FROM OrderItem oi WHERE oi.order.id IN :orderIds ORDER BY oi.id ASC")
+    List<OrderItem> findByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
 }
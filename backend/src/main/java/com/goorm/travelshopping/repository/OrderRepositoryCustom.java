@@ -0,0 +1,9 @@
+package com.goorm.travelshopping.repository;
+
+import com.goorm.travelshopping.entity.Order;
+import java.util.List;
+
+public interface OrderRepositoryCustom {
+
+    List<Order> findAdminPage(AdminOrderQuery query);
+}
@@ -0,0 +1,61 @@
+package com.goorm.travelshopping.repository;
+
+import com.goorm.travelshopping.entity.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // (주문일, ID) 내림차순 키셋으로 읽어 페이지가 깊어져도 앞선 행을 건너뛰지 않는다.
+    @Override
+    public List<Order> findAdminPage(AdminOrderQuery query) {
+        StringBuilder jpql = new StringBuilder("SELECT o FROM Order o JOIN FETCH o.user WHERE 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (query.status() != null) {
+            jpql.append(" AND o.status = :status");
+            parameters.put("status", query.status());
+        }
+        if (query.paymentStatus() != null) {
+            jpql.append(" AND o.paymentStatus = :paymentStatus");
+            parameters.put("paymentStatus", query.paymentStatus());
+        }
+        if (query.orderedFrom() != null) {
+            jpql.append(" AND o.orderDate >= :orderedFrom");
+            parameters.put("orderedFrom", query.orderedFrom());
+        }
+        if (query.orderedTo() != null) {
+            jpql.append(" AND o.orderDate < :orderedTo");
+            parameters.put("orderedTo", query.orderedTo());
+        }
+        if (query.userId() != null) {
+            jpql.append(" AND o.user.id = :userId");
+            parameters.put("userId", query.userId());
+        }
+        if (query.minAmount() != null) {
+            jpql.append(" AND o.finalAmount >= :minAmount");
+            parameters.put("minAmount", query.minAmount());
+        }
+        if (query.maxAmount() != null) {
+            jpql.append(" AND o.finalAmount <= :maxAmount");
+            parameters.put("maxAmount", query.maxAmount());
+        }
+        if (query.hasCursor()) {
+            jpql.append(" AND (o.orderDate < :afterOrderDate OR (o.orderDate = :afterOrderDate AND o.id < :afterId))");
+            parameters.put("afterOrderDate", query.afterOrderDate());
+            parameters.put("afterId", query.afterId());
+        }
+        jpql.append(" ORDER BY o.orderDate DESC, o.id DESC");
+
+        TypedQuery<Order> typedQuery = entityManager.createQuery(jpql.toString(), Order.class);
+        parameters.forEach(typedQuery::setParameter);
+        return typedQuery.setMaxResults(query.limit()).getResultList();
+    }
+}
@@ -1,10 +1,13 @@
 package com.goorm.travelshopping.repository;
 
 import com.goorm.travelshopping.entity.ProductImage;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
 
     List<ProductImage> findByProductIdOrderBySortOrderAsc(Long productId);
+
+    List<ProductImage> findByProductIdInOrderByProductIdAscSortOrderAsc(Collection<Long> productIds);
 }
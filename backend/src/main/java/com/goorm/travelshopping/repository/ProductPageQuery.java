@@ -0,0 +1,16 @@
+package com.goorm.travelshopping.repository;
+
+import java.util.Collection;
+
+public record ProductPageQuery(
+        Long categoryId,
+        Collection<Long> productIds,
+        ProductSort sort,
+        Object afterKey,
+        Long afterId,
+        int limit
+) {
+    public boolean hasCursor() {
+        return afterId != null;
+    }
+}
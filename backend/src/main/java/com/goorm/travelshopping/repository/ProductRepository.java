@@ -1,17 +1,45 @@
 package com.goorm.travelshopping.repository;
 
 import com.goorm.travelshopping.entity.Product;
-import com.goorm.travelshopping.entity.enums.ProductStatus;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
-    List<Product> findByStatus(ProductStatus status);
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<Product> findBatchWithCategory(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.id IN :ids")
+    List<Product> findAllWithCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT p FROM Product p JOIN FETCH p.category LEFT JOIN FETCH p.images WHERE p.id IN :ids")
+    List<Product> findAllWithCategoryAndImagesByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.id = :id")
     Optional<Product> findWithCategory(@Param("id") Long id);
+
+    // 전체 목록을 한 번에 읽지 않고 커서로 넘겨받는다. 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p FROM Product p JOIN FETCH p.category ORDER BY p.id ASC")
+    Stream<Product> streamAllWithCategory();
+
+    // 재고 확인과 차감을 한 문장으로 처리해 비관적 잠금 없이도 초과 판매를 막는다. 0을 돌려주면 재고 부족이거나 없는 상품이다.
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity, p.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE p.id = :id AND p.stockQuantity >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
 }
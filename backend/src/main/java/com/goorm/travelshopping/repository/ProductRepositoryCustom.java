@@ -0,0 +1,16 @@
+package com.goorm.travelshopping.repository;
+
+import com.goorm.travelshopping.dto.product.AdminProductRowResponse;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductRepositoryCustom {
+
+    List<ProductSummaryRow> findSummaryPage(ProductPageQuery query);
+
+    List<ProductSummaryRow> findSummariesByIdIn(Collection<Long> productIds);
+
+    List<AdminProductRowResponse> findAdminPage(AdminProductQuery query);
+
+    long countAdminPage(AdminProductQuery query);
+}
@@ -0,0 +1,112 @@
+package com.goorm.travelshopping.repository;
+
+import com.goorm.travelshopping.dto.product.AdminProductRowResponse;
+import com.goorm.travelshopping.entity.enums.ProductStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.util.StringUtils;
+
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductSummaryRow> findSummaryPage(ProductPageQuery query) {
+        StringBuilder jpql = new StringBuilder(ProductSummaryRow.SELECT_CLAUSE)
+                .append("FROM Product p WHERE p.status = :status");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("status", ProductStatus.ACTIVE);
+
+        if (query.categoryId() != null) {
+            jpql.append(" AND p.category.id IN (SELECT c.descendantId FROM CategoryClosure c WHERE c.ancestorId = :categoryId)");
+            parameters.put("categoryId", query.categoryId());
+        }
+        if (query.productIds() != null) {
+            jpql.append(" AND p.id IN :productIds");
+            parameters.put("productIds", query.productIds());
+        }
+        if (query.hasCursor()) {
+            boolean afterNullKey = query.afterKey() == null;
+            jpql.append(query.sort().keysetClause(afterNullKey));
+            if (!afterNullKey) {
+                parameters.put("afterKey", query.afterKey());
+            }
+            parameters.put("afterId", query.afterId());
+        }
+        jpql.append(query.sort().orderByClause());
+
+        TypedQuery<ProductSummaryRow> typedQuery = entityManager.createQuery(jpql.toString(), ProductSummaryRow.class);
+        parameters.forEach(typedQuery::setParameter);
+        return typedQuery.setMaxResults(query.limit()).getResultList();
+    }
+
+    @Override
+    public List<AdminProductRowResponse> findAdminPage(AdminProductQuery query) {
+        Map<String, Object> parameters = new HashMap<>();
+        String jpql = "SELECT new com.goorm.travelshopping.dto.product.AdminProductRowResponse("
+                + "p.id, p.name, p.status, p.price, p.salePrice, p.effectivePrice, p.stockQuantity, c.id, c.name, p.createdAt) "
+                + "FROM Product p JOIN p.category c"
+                + adminWhereClause(query, parameters)
+                + query.sort().orderByClause();
+
+        TypedQuery<AdminProductRowResponse> typedQuery = entityManager.createQuery(jpql, AdminProductRowResponse.class);
+        parameters.forEach(typedQuery::setParameter);
+        return typedQuery
+                .setFirstResult(query.page() * query.size())
+                .setMaxResults(query.size())
+                .getResultList();
+    }
+
+    @Override
+    public long countAdminPage(AdminProductQuery query) {
+        Map<String, Object> parameters = new HashMap<>();
+        String jpql = "SELECT COUNT(p.id) FROM Product p" + adminWhereClause(query, parameters);
+
+        TypedQuery<Long> typedQuery = entityManager.createQuery(jpql, Long.class);
+        parameters.forEach(typedQuery::setParameter);
+        return typedQuery.getSingleResult();
+    }
+
+    private String adminWhereClause(AdminProductQuery query, Map<String, Object> parameters) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (query.status() != null) {
+            where.append(" AND p.status = :status");
+            parameters.put("status", query.status());
+        }
+        if (query.categoryId() != null) {
+            where.append(" AND p.category.id IN (SELECT cc.descendantId FROM CategoryClosure cc WHERE cc.ancestorId = :categoryId)");
+            parameters.put("categoryId", query.categoryId());
+        }
+        if (StringUtils.hasText(query.namePrefix())) {
+            // 앞부분 일치만 허용해 이름 인덱스를 탈 수 있게 하고, 와일드카드 문자는 그대로 검색되도록 이스케이프한다.
+            where.append(" AND p.name LIKE :namePrefix ESCAPE '!'");
+            parameters.put("namePrefix", escapeLike(query.namePrefix().trim()) + "%");
+        }
+        if (query.stockBelow() != null) {
+            where.append(" AND p.stockQuantity < :stockBelow");
+            parameters.put("stockBelow", query.stockBelow());
+        }
+        return where.toString();
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    @Override
+    public List<ProductSummaryRow> findSummariesByIdIn(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(ProductSummaryRow.SELECT_CLAUSE + "FROM Product p WHERE p.id IN :productIds",
+                        ProductSummaryRow.class)
+                .setParameter("productIds", productIds)
+                .getResultList();
+    }
+}
@@ -0,0 +1,66 @@
+package com.goorm.travelshopping.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+public enum ProductSort {
+    LATEST("p.createdAt", false, false, ProductSummaryRow::createdAt, LocalDateTime::parse),
+    PRICE_ASC("p.effectivePrice", true, false, ProductSummaryRow::effectivePrice, BigDecimal::new),
+    PRICE_DESC("p.effectivePrice", false, false, ProductSummaryRow::effectivePrice, BigDecimal::new),
+    RATING("p.ratingAverage", false, true, ProductSummaryRow::ratingAverage, BigDecimal::new),
+    POPULAR("p.viewCount", false, true, ProductSummaryRow::viewCount, Long::valueOf),
+    // 검색 색인의 점수 순서를 따르며, 커서 키에는 순위 목록 내 위치를 담는다.
+    RELEVANCE(null, false, false, row -> null, Long::valueOf);
+
+    private final String path;
+    private final boolean ascending;
+    private final boolean nullable;
+    private final Function<ProductSummaryRow, Object> keyExtractor;
+    private final Function<String, Object> keyParser;
+
+    ProductSort(String path, boolean ascending, boolean nullable,
+                Function<ProductSummaryRow, Object> keyExtractor, Function<String, Object> keyParser) {
+        this.path = path;
+        this.ascending = ascending;
+        this.nullable = nullable;
+        this.keyExtractor = keyExtractor;
+        this.keyParser = keyParser;
+    }
+
+    public Object keyOf(ProductSummaryRow row) {
+        return keyExtractor.apply(row);
+    }
+
+    public Object parseKey(String value) {
+        return value == null ? null : keyParser.apply(value);
+    }
+
+    public boolean isRanked() {
+        return path == null;
+    }
+
+    String orderByClause() {
+        if (isRanked()) {
+            throw new IllegalStateException("관련도 정렬은 검색 색인에서 처리해야 합니다.");
+        }
+        String direction = ascending ? "ASC" : "DESC";
+        String nulls = nullable ? " NULLS LAST" : "";
+        return " ORDER BY " + path + " " + direction + nulls + ", p.id " + direction;
+    }
+
+    /**
+     * (정렬 키, id) 기준으로 커서 다음 행을 고르는 조건. NULL 키는 항상 마지막에 온다.
+     */
+    String keysetClause(boolean afterNullKey) {
+        String comparison = ascending ? ">" : "<";
+        if (afterNullKey) {
+            return " AND (" + path + " IS NULL AND p.id " + comparison + " :afterId)";
+        }
+        String clause = path + " " + comparison + " :afterKey OR (" + path + " = :afterKey AND p.id " + comparison + " :afterId)";
+        if (nullable) {
+            clause += " OR " + path + " IS NULL";
+        }
+        return " AND (" + clause + ")";
+    }
+}
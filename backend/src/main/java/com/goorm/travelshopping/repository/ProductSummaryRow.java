@@ -0,0 +1,41 @@
+package com.goorm.travelshopping.repository;
+
+import com.goorm.travelshopping.dto.product.ProductSummaryResponse;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ProductSummaryRow(
+        Long id,
+        String name,
+        String shortDescription,
+        BigDecimal price,
+        BigDecimal salePrice,
+        String mainImageUrl,
+        Long viewCount,
+        BigDecimal ratingAverage,
+        Long ratingCount,
+        LocalDateTime createdAt
+) {
+    public static final String SELECT_CLAUSE = "SELECT new com.goorm.travelshopping.repository.ProductSummaryRow("
+            + "p.id, p.name, p.shortDescription, p.price, p.salePrice, p.mainImageUrl, "
+            + "p.viewCount, p.ratingAverage, p.ratingCount, p.createdAt) ";
+
+    public BigDecimal effectivePrice() {
+        return salePrice != null ? salePrice : price;
+    }
+
+    public ProductSummaryResponse toResponse() {
+        return new ProductSummaryResponse(
+                id,
+                name,
+                shortDescription,
+                price,
+                salePrice,
+                effectivePrice(),
+                mainImageUrl,
+                viewCount,
+                ratingAverage,
+                ratingCount
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.goorm.travelshopping.repository;
+
+import com.goorm.travelshopping.entity.ProductVisitorSketch;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductVisitorSketchRepository extends JpaRepository<ProductVisitorSketch, Long> {
+
+    List<ProductVisitorSketch> findByVisitDateAndProductIdIn(LocalDate visitDate, Collection<Long> productIds);
+
+    List<ProductVisitorSketch> findByProductIdAndVisitDateBetweenOrderByVisitDateAsc(Long productId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,26 @@
+package com.goorm.travelshopping.repository;
+
+import com.goorm.travelshopping.entity.SaleCampaign;
+import com.goorm.travelshopping.entity.enums.SaleCampaignStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SaleCampaignRepository extends JpaRepository<SaleCampaign, Long> {
+
+    List<SaleCampaign> findByStatusAndStartsAtLessThanEqualOrderByStartsAtAsc(SaleCampaignStatus status, LocalDateTime now);
+
+    List<SaleCampaign> findByStatusAndEndsAtLessThanEqualOrderByEndsAtAsc(SaleCampaignStatus status, LocalDateTime now);
+
+    List<SaleCampaign> findAllByOrderByStartsAtDesc();
+
+    // 취소와 스케줄러의 시작, 종료가 같은 행사의 상태를 동시에 바꾸지 못하도록 행을 잠그고 읽는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM SaleCampaign c WHERE c.id = :id")
+    Optional<SaleCampaign> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,95 @@
+package com.goorm.travelshopping.search;
+
+import java.util.Map;
+
+/**
+ * 한글 음절을 자모 단위로 분해한다. 겹자음 받침과 이중 모음은 입력 순서대로 다시 나누어
+ * 입력기가 조합 중인 글자("젲" 등)도 완성된 단어의 앞부분과 일치하도록 한다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String MEDIALS = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String FINALS = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private static final Map<Character, String> COMPOUNDS = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulJamo() {
+    }
+
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch)) {
+                int offset = ch - SYLLABLE_BASE;
+                appendJamo(builder, INITIALS.charAt(offset / (MEDIAL_COUNT * FINAL_COUNT)));
+                appendJamo(builder, MEDIALS.charAt((offset % (MEDIAL_COUNT * FINAL_COUNT)) / FINAL_COUNT));
+                int finalIndex = offset % FINAL_COUNT;
+                if (finalIndex > 0) {
+                    appendJamo(builder, FINALS.charAt(finalIndex));
+                }
+            } else {
+                appendJamo(builder, ch);
+            }
+        }
+        return builder.toString();
+    }
+
+    public static String chosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch)) {
+                builder.append(INITIALS.charAt((ch - SYLLABLE_BASE) / (MEDIAL_COUNT * FINAL_COUNT)));
+            } else {
+                builder.append(ch);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 글자가 초성 자음이면 초성 검색어로 본다.
+     */
+    public static boolean isChosungQuery(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == ' ') {
+                continue;
+            }
+            if (INITIALS.indexOf(ch) < 0) {
+                return false;
+            }
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= SYLLABLE_BASE && ch <= SYLLABLE_LAST;
+    }
+
+    private static void appendJamo(StringBuilder builder, char jamo) {
+        String split = COMPOUNDS.get(jamo);
+        if (split != null) {
+            builder.append(split);
+        } else {
+            builder.append(jamo);
+        }
+    }
+}
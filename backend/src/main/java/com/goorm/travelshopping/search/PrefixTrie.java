@@ -0,0 +1,148 @@
+package com.goorm.travelshopping.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 노드마다 하위 트리의 상위 k개 후보를 미리 계산해 두는 접두어 트리.
+ * 변경 시에는 해당 키 경로의 노드만 아래에서 위로 다시 계산한다. 동기화는 호출하는 쪽에서 담당한다.
+ */
+class PrefixTrie {
+
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingLong(Suggestion::score).reversed()
+            .thenComparing(Suggestion::id, Comparator.reverseOrder());
+
+    private final int topK;
+    private final Node root = new Node();
+    private final Map<Long, Collection<String>> keysById = new HashMap<>();
+
+    PrefixTrie(int topK) {
+        this.topK = topK;
+    }
+
+    void put(Suggestion suggestion, Collection<String> keys) {
+        remove(suggestion.id());
+        keysById.put(suggestion.id(), keys);
+        for (String key : keys) {
+            Deque<Node> path = walk(key, true);
+            path.peek().terminals.put(suggestion.id(), suggestion);
+            recompute(path);
+        }
+    }
+
+    void remove(Long id) {
+        Collection<String> keys = keysById.remove(id);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            Deque<Node> path = walk(key, false);
+            if (path.size() != key.length() + 1) {
+                continue;
+            }
+            path.peek().terminals.remove(id);
+            recompute(path);
+            prune(key, path);
+        }
+    }
+
+    /**
+     * 점수만 delta만큼 바꿔 다시 등록한다. 등록되지 않은 id면 무시한다.
+     */
+    void addScore(Long id, long delta) {
+        Collection<String> keys = keysById.get(id);
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        Deque<Node> path = walk(keys.iterator().next(), false);
+        Suggestion current = path.peek().terminals.get(id);
+        if (current != null) {
+            put(new Suggestion(id, current.name(), current.score() + delta), keys);
+        }
+    }
+
+    void clear() {
+        root.children.clear();
+        root.terminals.clear();
+        root.top = List.of();
+        keysById.clear();
+    }
+
+    List<Suggestion> complete(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        return node.top.size() <= limit ? node.top : node.top.subList(0, limit);
+    }
+
+    private Deque<Node> walk(String key, boolean create) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        path.push(node);
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                if (!create) {
+                    break;
+                }
+                child = new Node();
+                node.children.put(key.charAt(i), child);
+            }
+            node = child;
+            path.push(node);
+        }
+        return path;
+    }
+
+    private void recompute(Deque<Node> path) {
+        for (Node node : path) {
+            List<Suggestion> candidates = new ArrayList<>(node.terminals.values());
+            for (Node child : node.children.values()) {
+                candidates.addAll(child.top);
+            }
+            candidates.sort(RANKING);
+
+            List<Suggestion> top = new ArrayList<>(Math.min(topK, candidates.size()));
+            Set<Long> seen = new HashSet<>();
+            for (Suggestion candidate : candidates) {
+                if (top.size() == topK) {
+                    break;
+                }
+                if (seen.add(candidate.id())) {
+                    top.add(candidate);
+                }
+            }
+            node.top = List.copyOf(top);
+        }
+    }
+
+    private void prune(String key, Deque<Node> path) {
+        // path는 가장 깊은 노드부터 쌓여 있다.
+        Node[] nodes = path.toArray(new Node[0]);
+        for (int depth = key.length(); depth > 0; depth--) {
+            Node node = nodes[key.length() - depth];
+            if (!node.children.isEmpty() || !node.terminals.isEmpty()) {
+                break;
+            }
+            nodes[key.length() - depth + 1].children.remove(key.charAt(depth - 1));
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final Map<Long, Suggestion> terminals = new HashMap<>(2);
+        private volatile List<Suggestion> top = List.of();
+    }
+}
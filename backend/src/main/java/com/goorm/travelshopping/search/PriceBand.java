@@ -0,0 +1,30 @@
+package com.goorm.travelshopping.search;
+
+import java.math.BigDecimal;
+
+public enum PriceBand {
+    UNDER_100K(null, 100_000),
+    FROM_100K_TO_300K(100_000, 300_000),
+    FROM_300K_TO_500K(300_000, 500_000),
+    FROM_500K_TO_1M(500_000, 1_000_000),
+    OVER_1M(1_000_000, null);
+
+    private final BigDecimal lowerInclusive;
+    private final BigDecimal upperExclusive;
+
+    PriceBand(Integer lowerInclusive, Integer upperExclusive) {
+        this.lowerInclusive = lowerInclusive != null ? BigDecimal.valueOf(lowerInclusive) : null;
+        this.upperExclusive = upperExclusive != null ? BigDecimal.valueOf(upperExclusive) : null;
+    }
+
+    public static PriceBand of(BigDecimal price) {
+        for (PriceBand band : values()) {
+            boolean aboveLower = band.lowerInclusive == null || price.compareTo(band.lowerInclusive) >= 0;
+            boolean belowUpper = band.upperExclusive == null || price.compareTo(band.upperExclusive) < 0;
+            if (aboveLower && belowUpper) {
+                return band;
+            }
+        }
+        return OVER_1M;
+    }
+}
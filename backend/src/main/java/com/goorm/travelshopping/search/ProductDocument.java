@@ -0,0 +1,46 @@
+package com.goorm.travelshopping.search;
+
+import com.goorm.travelshopping.entity.Product;
+import com.goorm.travelshopping.entity.enums.ProductStatus;
+import java.math.BigDecimal;
+import java.util.List;
+
+public record ProductDocument(
+        Long id,
+        String name,
+        String shortDescription,
+        String description,
+        ProductStatus status,
+        Long categoryId,
+        String categoryName,
+        List<Long> categoryPath,
+        BigDecimal effectivePrice,
+        Integer stockQuantity,
+        BigDecimal ratingAverage,
+        Long viewCount
+) {
+    public static ProductDocument from(Product product, List<Long> categoryPath) {
+        return new ProductDocument(
+                product.getId(),
+                product.getName(),
+                product.getShortDescription(),
+                product.getDescription(),
+                product.getStatus(),
+                product.getCategory().getId(),
+                product.getCategory().getName(),
+                categoryPath,
+                product.getEffectivePrice(),
+                product.getStockQuantity(),
+                product.getRatingAverage(),
+                product.getViewCount()
+        );
+    }
+
+    public boolean isActive() {
+        return ProductStatus.ACTIVE.equals(status);
+    }
+
+    public boolean isInStock() {
+        return stockQuantity != null && stockQuantity > 0;
+    }
+}
@@ -0,0 +1,271 @@
+package com.goorm.travelshopping.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품마다 순번(ordinal)을 부여하고 카테고리, 가격대, 재고, 평점대별 비트맵을 유지한다.
+ * 순번은 색인 순서대로 증가하므로 높은 순번부터 읽으면 최신 상품 순서가 된다.
+ */
+@Component
+public class ProductFacetIndex implements ProductIndex {
+
+    private Map<Long, Integer> ordinalById = new HashMap<>();
+    private List<ProductDocument> documents = new ArrayList<>();
+    private BitSet active = new BitSet();
+    private BitSet inStock = new BitSet();
+    private Map<Long, BitSet> byCategory = new HashMap<>();
+    private Map<PriceBand, BitSet> byPriceBand = new EnumMap<>(PriceBand.class);
+    private Map<RatingBand, BitSet> byRatingBand = new EnumMap<>(RatingBand.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ProductFacetIndex() {
+        for (PriceBand band : PriceBand.values()) {
+            byPriceBand.put(band, new BitSet());
+        }
+        for (RatingBand band : RatingBand.values()) {
+            byRatingBand.put(band, new BitSet());
+        }
+    }
+
+    @Override
+    public void replaceAll(Collection<ProductDocument> documents) {
+        ProductFacetIndex fresh = new ProductFacetIndex();
+        documents.forEach(fresh::upsert);
+
+        lock.writeLock().lock();
+        try {
+            ordinalById = fresh.ordinalById;
+            this.documents = fresh.documents;
+            active = fresh.active;
+            inStock = fresh.inStock;
+            byCategory = fresh.byCategory;
+            byPriceBand = fresh.byPriceBand;
+            byRatingBand = fresh.byRatingBand;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(ProductDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.get(document.id());
+            if (ordinal == null) {
+                ordinal = documents.size();
+                ordinalById.put(document.id(), ordinal);
+                documents.add(null);
+            } else {
+                unset(ordinal);
+            }
+            documents.set(ordinal, document);
+
+            if (!document.isActive()) {
+                return;
+            }
+            active.set(ordinal);
+            if (document.isInStock()) {
+                inStock.set(ordinal);
+            }
+            for (Long categoryId : document.categoryPath()) {
+                byCategory.computeIfAbsent(categoryId, key -> new BitSet()).set(ordinal);
+            }
+            if (document.effectivePrice() != null) {
+                byPriceBand.get(PriceBand.of(document.effectivePrice())).set(ordinal);
+            }
+            byRatingBand.get(RatingBand.of(document.ratingAverage())).set(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.get(productId);
+            if (ordinal != null) {
+                unset(ordinal);
+                documents.set(ordinal, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public FacetResult search(FacetFilter filter, Collection<Long> candidateIds) {
+        lock.readLock().lock();
+        try {
+            BitSet base = (BitSet) active.clone();
+            if (candidateIds != null) {
+                base.and(toBitSet(candidateIds));
+            }
+
+            BitSet categoryFilter = filter.categoryId() != null
+                    ? byCategory.getOrDefault(filter.categoryId(), new BitSet())
+                    : null;
+            BitSet priceFilter = union(byPriceBand, filter.priceBands());
+            BitSet ratingFilter = union(byRatingBand, filter.ratingBands());
+            BitSet stockFilter = filter.inStockOnly() ? inStock : null;
+
+            BitSet matches = intersect(base, categoryFilter, priceFilter, ratingFilter, stockFilter);
+
+            // 각 패싯의 건수는 자기 차원을 제외한 나머지 필터만 적용해 계산한다.
+            Map<Long, Long> categoryCounts = new LinkedHashMap<>();
+            BitSet withoutCategory = intersect(base, null, priceFilter, ratingFilter, stockFilter);
+            for (Map.Entry<Long, BitSet> entry : byCategory.entrySet()) {
+                long count = andCardinality(withoutCategory, entry.getValue());
+                if (count > 0) {
+                    categoryCounts.put(entry.getKey(), count);
+                }
+            }
+
+            Map<PriceBand, Long> priceCounts = new EnumMap<>(PriceBand.class);
+            BitSet withoutPrice = intersect(base, categoryFilter, null, ratingFilter, stockFilter);
+            byPriceBand.forEach((band, bits) -> priceCounts.put(band, andCardinality(withoutPrice, bits)));
+
+            Map<RatingBand, Long> ratingCounts = new EnumMap<>(RatingBand.class);
+            BitSet withoutRating = intersect(base, categoryFilter, priceFilter, null, stockFilter);
+            byRatingBand.forEach((band, bits) -> ratingCounts.put(band, andCardinality(withoutRating, bits)));
+
+            long inStockCount = andCardinality(intersect(base, categoryFilter, priceFilter, ratingFilter, null), inStock);
+
+            return new FacetResult(matches, categoryCounts, priceCounts, ratingCounts, inStockCount, documents);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 일치 비트맵에서 최신 순으로 offset 이후 limit개의 상품 ID를 꺼낸다.
+     * 그 사이 색인이 재구성되면 순번이 달라지므로 검색할 때의 문서 목록으로 순번을 해석한다.
+     */
+    public List<Long> newestIds(FacetResult result, int offset, int limit) {
+        BitSet matches = result.matches();
+        List<ProductDocument> documents = result.documents();
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>(limit);
+            int skipped = 0;
+            for (int ordinal = matches.previousSetBit(matches.length() - 1);
+                 ordinal >= 0 && ids.size() < limit;
+                 ordinal = matches.previousSetBit(ordinal - 1)) {
+                if (skipped++ < offset) {
+                    continue;
+                }
+                ProductDocument document = documents.get(ordinal);
+                if (document != null) {
+                    ids.add(document.id());
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리(하위 포함)에 속한 판매 중 상품인지 판별하는 조건. 호출 시점의 색인 상태를 본다.
+     */
+    public Predicate<Long> categoryFilter(Long categoryId) {
+        return productId -> {
+            lock.readLock().lock();
+            try {
+                Integer ordinal = ordinalById.get(productId);
+                BitSet bits = byCategory.get(categoryId);
+                return ordinal != null && bits != null && bits.get(ordinal) && active.get(ordinal);
+            } finally {
+                lock.readLock().unlock();
+            }
+        };
+    }
+
+    private void unset(int ordinal) {
+        ProductDocument previous = documents.get(ordinal);
+        active.clear(ordinal);
+        inStock.clear(ordinal);
+        if (previous != null) {
+            for (Long categoryId : previous.categoryPath()) {
+                BitSet bits = byCategory.get(categoryId);
+                if (bits != null) {
+                    bits.clear(ordinal);
+                    if (bits.isEmpty()) {
+                        byCategory.remove(categoryId);
+                    }
+                }
+            }
+        }
+        byPriceBand.values().forEach(bits -> bits.clear(ordinal));
+        byRatingBand.values().forEach(bits -> bits.clear(ordinal));
+    }
+
+    private BitSet toBitSet(Collection<Long> productIds) {
+        BitSet bits = new BitSet();
+        for (Long productId : productIds) {
+            Integer ordinal = ordinalById.get(productId);
+            if (ordinal != null) {
+                bits.set(ordinal);
+            }
+        }
+        return bits;
+    }
+
+    private <E extends Enum<E>> BitSet union(Map<E, BitSet> bitmaps, Collection<E> selected) {
+        if (selected == null || selected.isEmpty()) {
+            return null;
+        }
+        BitSet result = new BitSet();
+        for (E band : selected) {
+            result.or(bitmaps.get(band));
+        }
+        return result;
+    }
+
+    private BitSet intersect(BitSet base, BitSet... filters) {
+        BitSet result = (BitSet) base.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private long andCardinality(BitSet left, BitSet right) {
+        BitSet result = (BitSet) left.clone();
+        result.and(right);
+        return result.cardinality();
+    }
+
+    public record FacetFilter(
+            Long categoryId,
+            Collection<PriceBand> priceBands,
+            Collection<RatingBand> ratingBands,
+            boolean inStockOnly
+    ) {
+    }
+
+    public record FacetResult(
+            BitSet matches,
+            Map<Long, Long> categoryCounts,
+            Map<PriceBand, Long> priceBandCounts,
+            Map<RatingBand, Long> ratingBandCounts,
+            long inStockCount,
+            List<ProductDocument> documents
+    ) {
+        public long total() {
+            return matches.cardinality();
+        }
+    }
+}
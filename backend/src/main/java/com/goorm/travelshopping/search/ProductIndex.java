@@ -0,0 +1,15 @@
+package com.goorm.travelshopping.search;
+
+import java.util.Collection;
+
+public interface ProductIndex {
+
+    /**
+     * documents로 새 색인을 만든 뒤 기존 색인과 한 번에 바꿔 끼운다. 만드는 동안에도 기존 색인으로 검색된다.
+     */
+    void replaceAll(Collection<ProductDocument> documents);
+
+    void upsert(ProductDocument document);
+
+    void remove(Long productId);
+}
@@ -0,0 +1,203 @@
+package com.goorm.travelshopping.search;
+
+import com.goorm.travelshopping.cache.CatalogVersion;
+import com.goorm.travelshopping.cache.CategoryVersion;
+import com.goorm.travelshopping.entity.Category;
+import com.goorm.travelshopping.entity.CategoryClosure;
+import com.goorm.travelshopping.entity.Product;
+import com.goorm.travelshopping.entity.enums.CategoryStatus;
+import com.goorm.travelshopping.event.CategoryChangedEvent;
+import com.goorm.travelshopping.event.ProductChangedEvent;
+import com.goorm.travelshopping.event.ProductDeletedEvent;
+import com.goorm.travelshopping.event.ProductViewsFlushedEvent;
+import com.goorm.travelshopping.repository.CategoryClosureRepository;
+import com.goorm.travelshopping.repository.CategoryRepository;
+import com.goorm.travelshopping.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class ProductIndexSynchronizer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductIndexSynchronizer.class);
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final List<ProductIndex> indexes;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final CatalogVersion catalogVersion;
+    private final CategoryVersion categoryVersion;
+    private final Object rebuildLock = new Object();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public ProductIndexSynchronizer(ProductRepository productRepository,
+                                    CategoryRepository categoryRepository,
+                                    CategoryClosureRepository categoryClosureRepository,
+                                    List<ProductIndex> indexes,
+                                    ProductFacetIndex productFacetIndex,
+                                    ProductSuggestIndex productSuggestIndex,
+                                    CatalogVersion catalogVersion,
+                                    CategoryVersion categoryVersion) {
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+        this.categoryClosureRepository = categoryClosureRepository;
+        this.indexes = indexes;
+        this.productFacetIndex = productFacetIndex;
+        this.productSuggestIndex = productSuggestIndex;
+        this.catalogVersion = catalogVersion;
+        this.categoryVersion = categoryVersion;
+    }
+
+    // 카테고리 클로저 재구성 이후에 실행되어야 상위 카테고리 경로가 채워진다.
+    // 카탈로그 버전은 색인을 모두 반영한 뒤에 올려야 새 버전으로 오래된 결과가 캐시되지 않는다.
+    // 색인마다 새로 만든 뒤 바꿔 끼우므로 재구성하는 동안에도 기존 색인으로 검색된다.
+    // 재구성하는 동안 들어온 상품 변경은 읽어 둔 스냅샷보다 새로울 수 있어, 바꿔 끼운 뒤 다시 반영한다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void rebuildAll() {
+        synchronized (rebuildLock) {
+            rebuilding = true;
+            try {
+                rebuildIndexes();
+            } finally {
+                rebuilding = false;
+            }
+        }
+        Set<Long> changed = new HashSet<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(changed);
+        if (!changed.isEmpty()) {
+            refresh(changed, false);
+        }
+    }
+
+    private void rebuildIndexes() {
+        Map<Long, List<Long>> categoryPaths = groupByDescendant(categoryClosureRepository.findAll());
+
+        List<ProductDocument> documents = new ArrayList<>();
+        long lastId = 0L;
+        while (true) {
+            List<Product> batch = productRepository.findBatchWithCategory(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (Product product : batch) {
+                documents.add(toDocument(product, categoryPaths));
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        for (ProductIndex index : indexes) {
+            index.replaceAll(documents);
+        }
+        log.info("상품 색인 재구성 완료: {}건", documents.size());
+
+        List<Suggestion> categories = new ArrayList<>();
+        for (Category category : categoryRepository.findAll()) {
+            if (CategoryStatus.ACTIVE.equals(category.getStatus())) {
+                int sortOrder = category.getSortOrder() != null ? category.getSortOrder() : Integer.MAX_VALUE;
+                categories.add(new Suggestion(category.getId(), category.getName(), -sortOrder));
+            }
+        }
+        productSuggestIndex.replaceCategories(categories);
+        catalogVersion.bump();
+        categoryVersion.bump();
+    }
+
+    // 재고만 바뀐 경우 재고를 쓰는 패싯 색인만 갱신하고 텍스트 색인은 다시 토큰화하지 않는다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        markIfRebuilding(event.productIds());
+        refresh(event.productIds(), event.stockOnly());
+        if (!event.stockOnly()) {
+            catalogVersion.bump();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductDeleted(ProductDeletedEvent event) {
+        markIfRebuilding(List.of(event.productId()));
+        remove(event.productId());
+        catalogVersion.bump();
+    }
+
+    // 자동완성 순위만 조회수를 쓰고 캐시되지 않으므로 카탈로그 버전은 올리지 않는다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductViewsFlushed(ProductViewsFlushedEvent event) {
+        productSuggestIndex.addViews(event.viewsByProduct());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        rebuildAll();
+    }
+
+    private void refresh(Collection<Long> productIds, boolean stockOnly) {
+        List<Product> products = productRepository.findAllWithCategoryByIdIn(productIds);
+        Set<Long> categoryIds = new HashSet<>();
+        for (Product product : products) {
+            categoryIds.add(product.getCategory().getId());
+        }
+        Map<Long, List<Long>> categoryPaths = groupByDescendant(categoryClosureRepository.findByDescendantIdIn(categoryIds));
+
+        Set<Long> missing = new HashSet<>(productIds);
+        for (Product product : products) {
+            ProductDocument document = toDocument(product, categoryPaths);
+            if (stockOnly) {
+                productFacetIndex.upsert(document);
+            } else {
+                apply(document);
+            }
+            missing.remove(product.getId());
+        }
+        missing.forEach(this::remove);
+    }
+
+    private void markIfRebuilding(Collection<Long> productIds) {
+        if (rebuilding) {
+            changedDuringRebuild.addAll(productIds);
+        }
+    }
+
+    private ProductDocument toDocument(Product product, Map<Long, List<Long>> categoryPaths) {
+        Long categoryId = product.getCategory().getId();
+        return ProductDocument.from(product, categoryPaths.getOrDefault(categoryId, List.of(categoryId)));
+    }
+
+    private Map<Long, List<Long>> groupByDescendant(List<CategoryClosure> closures) {
+        Map<Long, List<Long>> ancestorsByDescendant = new HashMap<>();
+        for (CategoryClosure closure : closures) {
+            ancestorsByDescendant.computeIfAbsent(closure.getDescendantId(), key -> new ArrayList<>())
+                    .add(closure.getAncestorId());
+        }
+        return ancestorsByDescendant;
+    }
+
+    private void apply(ProductDocument document) {
+        for (ProductIndex index : indexes) {
+            index.upsert(document);
+        }
+    }
+
+    private void remove(Long productId) {
+        for (ProductIndex index : indexes) {
+            index.remove(productId);
+        }
+    }
+}
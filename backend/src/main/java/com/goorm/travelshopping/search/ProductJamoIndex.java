@@ -0,0 +1,174 @@
+package com.goorm.travelshopping.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품명과 카테고리명을 자모 분해 문자열, 초성 문자열로 미리 변환해 두고 2-gram 색인으로 후보를 찾는다.
+ */
+@Component
+public class ProductJamoIndex implements ProductIndex {
+
+    private GramIndex jamoIndex = new GramIndex();
+    private GramIndex chosungIndex = new GramIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void replaceAll(Collection<ProductDocument> documents) {
+        ProductJamoIndex fresh = new ProductJamoIndex();
+        documents.forEach(fresh::upsert);
+
+        lock.writeLock().lock();
+        try {
+            jamoIndex = fresh.jamoIndex;
+            chosungIndex = fresh.chosungIndex;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(ProductDocument document) {
+        lock.writeLock().lock();
+        try {
+            jamoIndex.remove(document.id());
+            chosungIndex.remove(document.id());
+            if (!document.isActive()) {
+                return;
+            }
+
+            List<String> jamoTexts = new ArrayList<>();
+            List<String> chosungTexts = new ArrayList<>();
+            for (String text : new String[]{document.name(), document.categoryName()}) {
+                String normalized = SearchTokenizer.normalizeForSuggest(text);
+                if (!normalized.isEmpty()) {
+                    jamoTexts.add(HangulJamo.decompose(normalized));
+                    chosungTexts.add(HangulJamo.chosung(normalized));
+                }
+            }
+            jamoIndex.put(document.id(), jamoTexts);
+            chosungIndex.put(document.id(), chosungTexts);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            jamoIndex.remove(productId);
+            chosungIndex.remove(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Set<Long> search(String query) {
+        String normalized = SearchTokenizer.normalizeForSuggest(query);
+        if (normalized.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (HangulJamo.isChosungQuery(normalized)) {
+                return chosungIndex.search(normalized);
+            }
+            return jamoIndex.search(HangulJamo.decompose(normalized));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static final class GramIndex {
+
+        private static final char END_MARK = '\u0003';
+
+        private final NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+        private final Map<Long, List<String>> textsById = new HashMap<>();
+
+        void put(Long id, List<String> texts) {
+            textsById.put(id, texts);
+            for (String gram : gramsOf(texts)) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+            }
+        }
+
+        void remove(Long id) {
+            List<String> texts = textsById.remove(id);
+            if (texts == null) {
+                return;
+            }
+            for (String gram : gramsOf(texts)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+
+        Set<Long> search(String query) {
+            Set<Long> candidates;
+            if (query.length() == 1) {
+                candidates = new HashSet<>();
+                for (Set<Long> ids : postings.subMap(query, true, query + Character.MAX_VALUE, false).values()) {
+                    candidates.addAll(ids);
+                }
+                return candidates;
+            }
+
+            candidates = null;
+            for (int i = 0; i + 2 <= query.length(); i++) {
+                String gram = query.substring(i, i + 2);
+                Set<Long> ids = postings.getOrDefault(gram, Set.of());
+                if (candidates == null) {
+                    candidates = new HashSet<>(ids);
+                } else {
+                    candidates.retainAll(ids);
+                }
+                if (candidates.isEmpty()) {
+                    return candidates;
+                }
+            }
+
+            Set<Long> matches = new HashSet<>();
+            for (Long id : candidates) {
+                for (String text : textsById.get(id)) {
+                    if (text.contains(query)) {
+                        matches.add(id);
+                        break;
+                    }
+                }
+            }
+            return matches;
+        }
+
+        /**
+         * 끝 표시 문자를 덧붙여 마지막 글자도 어떤 2-gram의 첫 글자가 되게 한다. 한 글자 검색은 접두어 조회로 처리된다.
+         */
+        private static Set<String> gramsOf(List<String> texts) {
+            Set<String> grams = new HashSet<>();
+            for (String text : texts) {
+                String padded = text + END_MARK;
+                for (int i = 0; i + 2 <= padded.length(); i++) {
+                    grams.add(padded.substring(i, i + 2));
+                }
+            }
+            return grams;
+        }
+    }
+}
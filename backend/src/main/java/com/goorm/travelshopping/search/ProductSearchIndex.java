@@ -0,0 +1,299 @@
+package com.goorm.travelshopping.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품명, 짧은 설명, 상세 설명을 필드별 출현 빈도와 함께 색인하고 BM25로 관련도를 매긴다.
+ * 필드마다 길이 정규화를 따로 한 뒤 가중치를 곱해 합치므로 이름에 나온 단어가 설명에 나온 단어보다 앞선다.
+ * 색인어의 모든 접미어도 따로 색인해 두어 "해운대"로 "부산해운대"처럼 단어 중간에 나온 검색어도 찾는다.
+ */
+@Component
+public class ProductSearchIndex implements ProductIndex {
+
+    private static final int FIELD_COUNT = 3;
+    // 상품명, 짧은 설명, 상세 설명 순서
+    private static final double[] FIELD_BOOSTS = {3.0, 1.5, 1.0};
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 색인어 중간에만 일치한 경우는 앞에서부터 일치한 경우보다 관련도를 낮춘다.
+    private static final double INFIX_WEIGHT = 0.5;
+
+    // 점수가 같으면 최근 등록 상품(큰 ID)이 앞선다.
+    private static final Comparator<SearchHit> RANKING = Comparator.comparingDouble(SearchHit::score)
+            .thenComparing(SearchHit::id);
+
+    private Map<String, Map<Long, int[]>> postings = new HashMap<>();
+    private NavigableMap<String, Set<String>> termsBySuffix = new TreeMap<>();
+    private Map<Long, Set<String>> termsByProduct = new HashMap<>();
+    private Map<Long, int[]> fieldLengthsByProduct = new HashMap<>();
+    private long[] totalFieldLengths = new long[FIELD_COUNT];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void replaceAll(Collection<ProductDocument> documents) {
+        ProductSearchIndex fresh = new ProductSearchIndex();
+        documents.forEach(fresh::upsert);
+
+        lock.writeLock().lock();
+        try {
+            postings = fresh.postings;
+            termsBySuffix = fresh.termsBySuffix;
+            termsByProduct = fresh.termsByProduct;
+            fieldLengthsByProduct = fresh.fieldLengthsByProduct;
+            totalFieldLengths = fresh.totalFieldLengths;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(ProductDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.id());
+            if (!document.isActive()) {
+                return;
+            }
+
+            List<List<String>> fields = List.of(
+                    SearchTokenizer.tokenize(document.name()),
+                    SearchTokenizer.tokenize(document.shortDescription()),
+                    SearchTokenizer.tokenize(document.description())
+            );
+
+            int[] fieldLengths = new int[FIELD_COUNT];
+            Map<String, int[]> frequencies = new HashMap<>();
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                List<String> tokens = fields.get(field);
+                fieldLengths[field] = tokens.size();
+                totalFieldLengths[field] += tokens.size();
+                for (String token : tokens) {
+                    frequencies.computeIfAbsent(token, key -> new int[FIELD_COUNT])[field]++;
+                }
+            }
+
+            frequencies.forEach((term, termFrequencies) -> {
+                Map<Long, int[]> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    termPostings = new HashMap<>();
+                    postings.put(term, termPostings);
+                    addSuffixes(term);
+                }
+                termPostings.put(document.id(), termFrequencies);
+            });
+            termsByProduct.put(document.id(), new HashSet<>(frequencies.keySet()));
+            fieldLengthsByProduct.put(document.id(), fieldLengths);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드의 각 토큰을 포함하는 색인어의 포스팅을 합친 뒤, 토큰 간에는 교집합을 구한다.
+     */
+    public Set<Long> search(String keyword) {
+        List<String> queryTokens = SearchTokenizer.tokenize(keyword);
+        if (queryTokens.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Long> result = null;
+            for (String token : queryTokens) {
+                Set<Long> matches = containingMatches(token);
+                if (result == null) {
+                    result = matches;
+                } else {
+                    result.retainAll(matches);
+                }
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 토큰이 일치하고 filter를 통과한 상품 중 BM25 점수 상위 limit개를 높은 순으로 돌려준다.
+     * 크기가 limit인 최소 힙만 유지하므로 전체 일치 목록을 정렬하지 않는다.
+     */
+    public List<SearchHit> topHits(String keyword, int limit, Predicate<Long> filter) {
+        List<String> queryTokens = new ArrayList<>(SearchTokenizer.distinctTokens(keyword));
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String token : queryTokens) {
+                Map<Long, Double> tokenScores = scoreToken(token);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            PriorityQueue<SearchHit> heap = new PriorityQueue<>(limit, RANKING);
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                if (!filter.test(entry.getKey())) {
+                    continue;
+                }
+                SearchHit hit = new SearchHit(entry.getKey(), entry.getValue());
+                if (heap.size() < limit) {
+                    heap.add(hit);
+                } else if (RANKING.compare(hit, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(hit);
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(heap);
+            hits.sort(RANKING.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsByProduct.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 토큰을 포함하는 색인어 중 상품별로 가장 높은 점수를 그 토큰의 점수로 삼는다.
+     */
+    private Map<Long, Double> scoreToken(String token) {
+        int documentCount = termsByProduct.size();
+        double[] averageLengths = new double[FIELD_COUNT];
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            averageLengths[field] = documentCount == 0 ? 0.0 : (double) totalFieldLengths[field] / documentCount;
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : termsContaining(token)) {
+            Map<Long, int[]> termPostings = postings.get(term);
+            double idf = Math.log(1 + (documentCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+            double weight = term.startsWith(token) ? idf : idf * INFIX_WEIGHT;
+            termPostings.forEach((productId, frequencies) -> {
+                double score = weight * saturate(weightedFrequency(frequencies, fieldLengthsByProduct.get(productId), averageLengths));
+                scores.merge(productId, score, Math::max);
+            });
+        }
+        return scores;
+    }
+
+    private double weightedFrequency(int[] frequencies, int[] fieldLengths, double[] averageLengths) {
+        double weighted = 0.0;
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            if (frequencies[field] == 0) {
+                continue;
+            }
+            double lengthRatio = averageLengths[field] == 0.0 ? 1.0 : fieldLengths[field] / averageLengths[field];
+            weighted += FIELD_BOOSTS[field] * frequencies[field] / (1 - B + B * lengthRatio);
+        }
+        return weighted;
+    }
+
+    private double saturate(double frequency) {
+        return frequency * (K1 + 1) / (frequency + K1);
+    }
+
+    // 토큰으로 시작하는 접미어를 가진 색인어가 곧 토큰을 포함하는 색인어다.
+    private Set<String> termsContaining(String token) {
+        Set<String> terms = new HashSet<>();
+        for (Set<String> suffixTerms : termsBySuffix.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+            terms.addAll(suffixTerms);
+        }
+        return terms;
+    }
+
+    private Set<Long> containingMatches(String token) {
+        Set<Long> matches = new HashSet<>();
+        for (String term : termsContaining(token)) {
+            matches.addAll(postings.get(term).keySet());
+        }
+        return matches;
+    }
+
+    private void addSuffixes(String term) {
+        for (int start = 0; start < term.length(); start++) {
+            termsBySuffix.computeIfAbsent(term.substring(start), key -> new HashSet<>()).add(term);
+        }
+    }
+
+    private void removeSuffixes(String term) {
+        for (int start = 0; start < term.length(); start++) {
+            String suffix = term.substring(start);
+            Set<String> terms = termsBySuffix.get(suffix);
+            if (terms != null) {
+                terms.remove(term);
+                if (terms.isEmpty()) {
+                    termsBySuffix.remove(suffix);
+                }
+            }
+        }
+    }
+
+    private void removeInternal(Long productId) {
+        Set<String> terms = termsByProduct.remove(productId);
+        if (terms == null) {
+            return;
+        }
+        int[] fieldLengths = fieldLengthsByProduct.remove(productId);
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            totalFieldLengths[field] -= fieldLengths[field];
+        }
+        for (String term : terms) {
+            Map<Long, int[]> termPostings = postings.get(term);
+            if (termPostings == null) {
+                continue;
+            }
+            termPostings.remove(productId);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+                removeSuffixes(term);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.goorm.travelshopping.search;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductSuggestIndex implements ProductIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private PrefixTrie productTrie = new PrefixTrie(MAX_SUGGESTIONS);
+    private final PrefixTrie categoryTrie = new PrefixTrie(MAX_SUGGESTIONS);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void replaceAll(Collection<ProductDocument> documents) {
+        ProductSuggestIndex fresh = new ProductSuggestIndex();
+        documents.forEach(fresh::upsert);
+
+        lock.writeLock().lock();
+        try {
+            productTrie = fresh.productTrie;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(ProductDocument document) {
+        lock.writeLock().lock();
+        try {
+            if (!document.isActive()) {
+                productTrie.remove(document.id());
+                return;
+            }
+            long views = document.viewCount() != null ? document.viewCount() : 0L;
+            productTrie.put(new Suggestion(document.id(), document.name(), views), keysOf(document.name()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            productTrie.remove(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조회수 반영분만큼 상품 자동완성 점수를 올린다. 재구성 때는 저장된 조회수로 다시 맞춰진다.
+     */
+    public void addViews(Map<Long, Long> viewsByProduct) {
+        lock.writeLock().lock();
+        try {
+            viewsByProduct.forEach(productTrie::addScore);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리는 정렬 순서가 앞설수록 높은 점수를 받는다.
+     */
+    public void replaceCategories(List<Suggestion> categories) {
+        lock.writeLock().lock();
+        try {
+            categoryTrie.clear();
+            for (Suggestion category : categories) {
+                categoryTrie.put(category, keysOf(category.name()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Suggestion> suggestProducts(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return productTrie.complete(SearchTokenizer.normalizeForSuggest(prefix), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Suggestion> suggestCategories(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return categoryTrie.complete(SearchTokenizer.normalizeForSuggest(prefix), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이름 전체와 각 단어로 시작하는 뒷부분을 키로 등록해 중간 단어로도 자동완성되게 한다.
+     */
+    private Set<String> keysOf(String name) {
+        String normalized = SearchTokenizer.normalizeForSuggest(name);
+        Set<String> keys = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            if (normalized.charAt(i - 1) == ' ') {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,228 @@
+package com.goorm.travelshopping.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품명과 짧은 설명의 단어를 자모로 분해해 3-gram 색인에 올려 두고, 오타가 섞인 검색어와 비슷한 단어를 찾는다.
+ * 후보 단어는 3-gram을 공유하는 단어로만 한정하고, 유사도 하한과 편집 거리 상한을 모두 통과한 단어만 일치로 본다.
+ */
+@Component
+public class ProductTrigramIndex implements ProductIndex {
+
+    private static final String PADDING = "$$";
+    private static final String END_PADDING = "$";
+    private static final double MIN_SIMILARITY = 0.2;
+
+    private Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    private Map<String, Set<Long>> productsByTerm = new HashMap<>();
+    private Map<Long, Set<String>> termsByProduct = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void replaceAll(Collection<ProductDocument> documents) {
+        ProductTrigramIndex fresh = new ProductTrigramIndex();
+        documents.forEach(fresh::upsert);
+
+        lock.writeLock().lock();
+        try {
+            termsByTrigram = fresh.termsByTrigram;
+            productsByTerm = fresh.productsByTerm;
+            termsByProduct = fresh.termsByProduct;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(ProductDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.id());
+            if (!document.isActive()) {
+                return;
+            }
+
+            Set<String> terms = new HashSet<>();
+            for (String token : SearchTokenizer.distinctTokens(document.name())) {
+                terms.add(HangulJamo.decompose(token));
+            }
+            for (String token : SearchTokenizer.distinctTokens(document.shortDescription())) {
+                terms.add(HangulJamo.decompose(token));
+            }
+
+            for (String term : terms) {
+                Set<Long> productIds = productsByTerm.get(term);
+                if (productIds == null) {
+                    productIds = new HashSet<>();
+                    productsByTerm.put(term, productIds);
+                    for (String trigram : trigramsOf(term)) {
+                        termsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(term);
+                    }
+                }
+                productIds.add(document.id());
+            }
+            termsByProduct.put(document.id(), terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 검색어 토큰에 비슷한 단어가 있는 상품만 돌려준다. 점수는 토큰별 최고 유사도의 합이며 높은 순으로 정렬된다.
+     */
+    public List<SearchHit> search(String keyword) {
+        List<String> queryTerms = new ArrayList<>();
+        for (String token : SearchTokenizer.distinctTokens(keyword)) {
+            queryTerms.add(HangulJamo.decompose(token));
+        }
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String queryTerm : queryTerms) {
+                Map<Long, Double> termScores = scoreProducts(queryTerm);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(scores.size());
+            scores.forEach((id, score) -> hits.add(new SearchHit(id, score)));
+            hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                    .thenComparing(SearchHit::id, Comparator.reverseOrder()));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreProducts(String queryTerm) {
+        Set<String> queryTrigrams = trigramsOf(queryTerm);
+        Map<String, Integer> sharedCounts = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (String term : termsByTrigram.getOrDefault(trigram, Set.of())) {
+                sharedCounts.merge(term, 1, Integer::sum);
+            }
+        }
+
+        int maxEdits = maxEdits(queryTerm);
+        Map<Long, Double> scores = new HashMap<>();
+        sharedCounts.forEach((term, shared) -> {
+            int termTrigrams = term.length() + 1;
+            double similarity = (double) shared / (queryTrigrams.size() + termTrigrams - shared);
+            if (similarity < MIN_SIMILARITY || editDistance(queryTerm, term, maxEdits) > maxEdits) {
+                return;
+            }
+            for (Long productId : productsByTerm.get(term)) {
+                scores.merge(productId, similarity, Math::max);
+            }
+        });
+        return scores;
+    }
+
+    private void removeInternal(Long productId) {
+        Set<String> terms = termsByProduct.remove(productId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Set<Long> productIds = productsByTerm.get(term);
+            if (productIds == null) {
+                continue;
+            }
+            productIds.remove(productId);
+            if (productIds.isEmpty()) {
+                productsByTerm.remove(term);
+                for (String trigram : trigramsOf(term)) {
+                    Set<String> sharing = termsByTrigram.get(trigram);
+                    if (sharing != null) {
+                        sharing.remove(term);
+                        if (sharing.isEmpty()) {
+                            termsByTrigram.remove(trigram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // 자모 기준 길이이므로 한글 두 음절("제주" → 4자)부터 한 글자 오타를 허용한다.
+    static int maxEdits(String term) {
+        if (term.length() <= 2) {
+            return 0;
+        }
+        return term.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * 앞에 두 글자, 뒤에 한 글자 여백을 붙여 길이 n인 단어가 n+1개의 3-gram을 갖게 한다.
+     */
+    static Set<String> trigramsOf(String term) {
+        String padded = PADDING + term + END_PADDING;
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * 상한을 넘는 것이 확실해지면 바로 중단하는 레벤슈타인 거리. 상한을 넘으면 limit + 1을 돌려준다.
+     */
+    static int editDistance(String left, String right, int limit) {
+        if (Math.abs(left.length() - right.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= left.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= right.length(); j++) {
+                int cost = left.charAt(i - 1) == right.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[right.length()], limit + 1);
+    }
+}
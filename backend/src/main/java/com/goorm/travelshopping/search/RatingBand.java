@@ -0,0 +1,26 @@
+package com.goorm.travelshopping.search;
+
+import java.math.BigDecimal;
+
+public enum RatingBand {
+    FOUR_AND_ABOVE,
+    THREE_TO_FOUR,
+    UNDER_THREE,
+    UNRATED;
+
+    private static final BigDecimal FOUR = BigDecimal.valueOf(4);
+    private static final BigDecimal THREE = BigDecimal.valueOf(3);
+
+    public static RatingBand of(BigDecimal ratingAverage) {
+        if (ratingAverage == null) {
+            return UNRATED;
+        }
+        if (ratingAverage.compareTo(FOUR) >= 0) {
+            return FOUR_AND_ABOVE;
+        }
+        if (ratingAverage.compareTo(THREE) >= 0) {
+            return THREE_TO_FOUR;
+        }
+        return UNDER_THREE;
+    }
+}
@@ -0,0 +1,7 @@
+package com.goorm.travelshopping.search;
+
+public record SearchHit(
+        Long id,
+        double score
+) {
+}
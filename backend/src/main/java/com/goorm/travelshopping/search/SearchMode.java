@@ -0,0 +1,7 @@
+package com.goorm.travelshopping.search;
+
+public enum SearchMode {
+    KEYWORD,
+    JAMO,
+    FUZZY
+}
@@ -0,0 +1,41 @@
+package com.goorm.travelshopping.search;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public final class SearchTokenizer {
+
+    private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).trim();
+    }
+
+    /**
+     * 자동완성 키 정규화: 소문자로 바꾸고 구분 문자를 공백 하나로 합친다.
+     */
+    public static String normalizeForSuggest(String text) {
+        return String.join(" ", tokenize(text));
+    }
+
+    public static List<String> tokenize(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(DELIMITER.split(normalized))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    public static Set<String> distinctTokens(String text) {
+        return new LinkedHashSet<>(tokenize(text));
+    }
+}
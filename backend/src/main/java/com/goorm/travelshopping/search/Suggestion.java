@@ -0,0 +1,8 @@
+package com.goorm.travelshopping.search;
+
+public record Suggestion(
+        Long id,
+        String name,
+        long score
+) {
+}
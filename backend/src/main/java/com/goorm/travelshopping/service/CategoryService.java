@@ -0,0 +1,181 @@
+package com.goorm.travelshopping.service;
+
+import com.goorm.travelshopping.cache.CategoryTreeCache;
+import com.goorm.travelshopping.cache.CategoryTreeSnapshot;
+import com.goorm.travelshopping.dto.product.CategoryCreateRequest;
+import com.goorm.travelshopping.dto.product.CategoryProductCountResponse;
+import com.goorm.travelshopping.dto.product.CategoryResponse;
+import com.goorm.travelshopping.entity.Category;
+import com.goorm.travelshopping.entity.CategoryClosure;
+import com.goorm.travelshopping.entity.enums.CategoryStatus;
+import com.goorm.travelshopping.entity.enums.ProductStatus;
+import com.goorm.travelshopping.event.CategoryChangedEvent;
+import com.goorm.travelshopping.exception.BadRequestException;
+import com.goorm.travelshopping.exception.ResourceNotFoundException;
+import com.goorm.travelshopping.repository.CategoryClosureRepository;
+import com.goorm.travelshopping.repository.CategoryRepository;
+import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+@Service
+@Transactional
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CategoryService(CategoryRepository categoryRepository,
+                           CategoryClosureRepository categoryClosureRepository,
+                           CategoryTreeCache categoryTreeCache,
+                           ApplicationEventPublisher eventPublisher) {
+        this.categoryRepository = categoryRepository;
+        this.categoryClosureRepository = categoryClosureRepository;
+        this.categoryTreeCache = categoryTreeCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
+    public CategoryTreeSnapshot getCategoryTree() {
+        return categoryTreeCache.getOrLoad(this::loadCategoryTree);
+    }
+
+    public CategoryResponse createCategory(CategoryCreateRequest request) {
+        Category parent = request.parentId() != null ? getCategoryOrThrow(request.parentId()) : null;
+
+        Category category = new Category();
+        category.setName(request.name());
+        category.setDescription(request.description());
+        category.setParent(parent);
+        category.setSortOrder(request.sortOrder());
+        category.setStatus(request.status() != null ? request.status() : CategoryStatus.ACTIVE);
+        Category saved = categoryRepository.save(category);
+
+        List<CategoryClosure> closures = new ArrayList<>();
+        closures.add(new CategoryClosure(saved.getId(), saved.getId(), 0));
+        if (parent != null) {
+            for (CategoryClosure ancestor : categoryClosureRepository.findByDescendantId(parent.getId())) {
+                closures.add(new CategoryClosure(ancestor.getAncestorId(), saved.getId(), ancestor.getDepth() + 1));
+            }
+        }
+        categoryClosureRepository.saveAll(closures);
+
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved.getId()));
+        return toResponse(saved);
+    }
+
+    public CategoryResponse moveCategory(Long categoryId, Long newParentId) {
+        Category category = getCategoryOrThrow(categoryId);
+        Category newParent = newParentId != null ? getCategoryOrThrow(newParentId) : null;
+
+        List<CategoryClosure> subtree = categoryClosureRepository.findByAncestorId(categoryId);
+        Set<Long> subtreeIds = new HashSet<>();
+        for (CategoryClosure closure : subtree) {
+            subtreeIds.add(closure.getDescendantId());
+        }
+        if (newParent != null && subtreeIds.contains(newParent.getId())) {
+            throw new BadRequestException("하위 카테고리 아래로 이동할 수 없습니다.");
+        }
+
+        categoryClosureRepository.deleteExternalAncestors(subtreeIds);
+        if (newParent != null) {
+            List<CategoryClosure> closures = new ArrayList<>();
+            for (CategoryClosure ancestor : categoryClosureRepository.findByDescendantId(newParent.getId())) {
+                for (CategoryClosure descendant : subtree) {
+                    closures.add(new CategoryClosure(
+                            ancestor.getAncestorId(),
+                            descendant.getDescendantId(),
+                            ancestor.getDepth() + descendant.getDepth() + 1
+                    ));
+                }
+            }
+            categoryClosureRepository.saveAll(closures);
+        }
+
+        category.setParent(newParent);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+        return toResponse(category);
+    }
+
+    @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
+    public List<CategoryProductCountResponse> getProductCounts() {
+        return categoryClosureRepository.countProductsByAncestor(ProductStatus.ACTIVE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void rebuildClosure() {
+        Map<Long, Long> parentById = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            parentById.put(category.getId(), category.getParent() != null ? category.getParent().getId() : null);
+        }
+
+        List<CategoryClosure> closures = new ArrayList<>();
+        for (Long categoryId : parentById.keySet()) {
+            Long ancestorId = categoryId;
+            int depth = 0;
+            while (ancestorId != null && depth <= parentById.size()) {
+                closures.add(new CategoryClosure(ancestorId, categoryId, depth));
+                ancestorId = parentById.get(ancestorId);
+                depth++;
+            }
+        }
+
+        categoryClosureRepository.deleteAllInBatch();
+        categoryClosureRepository.saveAll(closures);
+    }
+
+    private List<CategoryResponse> loadCategoryTree() {
+        Map<Long, List<Category>> childrenByParent = new HashMap<>();
+        List<Category> roots = new ArrayList<>();
+        for (Category category : categoryRepository.findAll(Sort.by("sortOrder", "id"))) {
+            if (category.getParent() == null) {
+                roots.add(category);
+            } else {
+                childrenByParent.computeIfAbsent(category.getParent().getId(), key -> new ArrayList<>()).add(category);
+            }
+        }
+        return toTree(roots, childrenByParent);
+    }
+
+    private List<CategoryResponse> toTree(List<Category> categories, Map<Long, List<Category>> childrenByParent) {
+        return categories.stream()
+                .map(category -> new CategoryResponse(
+                        category.getId(),
+                        category.getName(),
+                        category.getDescription(),
+                        category.getSortOrder(),
+                        category.getStatus().name(),
+                        toTree(childrenByParent.getOrDefault(category.getId(), List.of()), childrenByParent)
+                ))
+                .toList();
+    }
+
+    private Category getCategoryOrThrow(Long categoryId) {
+        return categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다."));
+    }
+
+    private CategoryResponse toResponse(Category category) {
+        return new CategoryResponse(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.getSortOrder(),
+                category.getStatus().name(),
+                List.of()
+        );
+    }
+}
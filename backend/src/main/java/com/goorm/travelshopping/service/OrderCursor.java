@@ -0,0 +1,35 @@
+package com.goorm.travelshopping.service;
+
+import com.goorm.travelshopping.entity.Order;
+import com.goorm.travelshopping.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+public record OrderCursor(
+        LocalDateTime orderDate,
+        Long id
+) {
+    private static final String SEPARATOR = "|";
+
+    public static OrderCursor of(Order order) {
+        return new OrderCursor(order.getOrderDate(), order.getId());
+    }
+
+    public String encode() {
+        String raw = orderDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(Pattern.quote(SEPARATOR), -1);
+            return new OrderCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new BadRequestException("잘못된 페이지 커서입니다.");
+        }
+    }
+}
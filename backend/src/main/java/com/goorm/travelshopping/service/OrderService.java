@@ -1,5 +1,7 @@
 package com.goorm.travelshopping.service;
 
+import com.goorm.travelshopping.dto.order.AdminOrderPageResponse;
+import com.goorm.travelshopping.dto.order.AdminOrderSummaryResponse;
 import com.goorm.travelshopping.dto.order.OrderCreateRequest;
 import com.goorm.travelshopping.dto.order.OrderDetailResponse;
 import com.goorm.travelshopping.dto.order.OrderItemResponse;
@@ -11,21 +13,33 @@ import com.goorm.travelshopping.entity.ShoppingCartItem;
 import com.goorm.travelshopping.entity.User;
 import com.goorm.travelshopping.entity.enums.OrderStatus;
 import com.goorm.travelshopping.entity.enums.PaymentStatus;
+import com.goorm.travelshopping.event.OrderPlacedEvent;
+import com.goorm.travelshopping.event.ProductChangedEvent;
 import com.goorm.travelshopping.exception.BadRequestException;
 import com.goorm.travelshopping.exception.ResourceNotFoundException;
 import com.goorm.travelshopping.exception.UnauthorizedException;
+import com.goorm.travelshopping.inventory.FlashSaleInventory;
+import com.goorm.travelshopping.inventory.FlashSaleLedger;
+import com.goorm.travelshopping.repository.AdminOrderQuery;
+import com.goorm.travelshopping.repository.OrderItemRepository;
 import com.goorm.travelshopping.repository.OrderRepository;
 import com.goorm.travelshopping.repository.ProductRepository;
 import com.goorm.travelshopping.repository.ShoppingCartItemRepository;
+import com.goorm.travelshopping.stats.DashboardCounters;
 import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -35,25 +49,52 @@ public class OrderService {
     private static final DateTimeFormatter ORDER_NUMBER_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
 
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
     private final ProductRepository productRepository;
     private final ShoppingCartItemRepository shoppingCartItemRepository;
+    private final DashboardCounters dashboardCounters;
+    private final FlashSaleInventory flashSaleInventory;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OrderService(OrderRepository orderRepository,
+                        OrderItemRepository orderItemRepository,
                         ProductRepository productRepository,
-                        ShoppingCartItemRepository shoppingCartItemRepository) {
+                        ShoppingCartItemRepository shoppingCartItemRepository,
+                        DashboardCounters dashboardCounters,
+                        FlashSaleInventory flashSaleInventory,
+                        ApplicationEventPublisher eventPublisher) {
         this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
         this.productRepository = productRepository;
         this.shoppingCartItemRepository = shoppingCartItemRepository;
+        this.dashboardCounters = dashboardCounters;
+        this.flashSaleInventory = flashSaleInventory;
+        this.eventPublisher = eventPublisher;
     }
 
     public OrderDetailResponse createOrder(User user, OrderCreateRequest request) {
+        // 상품 ID 순으로 재고를 차감해 동시 주문끼리 행 잠금을 같은 순서로 잡게 한다.
         Map<Long, OrderCreateRequest.OrderItemRequest> orderItemMap = request.items().stream()
-                .collect(Collectors.toMap(OrderCreateRequest.OrderItemRequest::productId, item -> item));
-
-        List<Product> products = productRepository.findAllById(orderItemMap.keySet());
-        if (products.size() != orderItemMap.size()) {
-            throw new BadRequestException("존재하지 않는 상품이 포함되어 있습니다.");
+                .collect(Collectors.toMap(OrderCreateRequest.OrderItemRequest::productId, item -> item,
+                        (first, second) -> new OrderCreateRequest.OrderItemRequest(
+                                first.productId(), first.quantity() + second.quantity()),
+                        TreeMap::new));
+        for (OrderCreateRequest.OrderItemRequest itemRequest : orderItemMap.values()) {
+            if (itemRequest.quantity() <= 0) {
+                throw new BadRequestException("수량은 1 이상이어야 합니다.");
+            }
         }
+        // 한정 수량 판매 상품은 메모리 원장에서 예약하고 products 행은 나중에 모아서 반영한다.
+        Map<Long, Integer> flashSaleLines = new TreeMap<>();
+        orderItemMap.forEach((productId, itemRequest) -> {
+            if (reserveStock(productId, itemRequest.quantity())) {
+                flashSaleLines.put(productId, itemRequest.quantity());
+            }
+        });
+
+        // 차감 뒤에 읽어야 영속성 컨텍스트에 차감 전 재고가 남지 않는다.
+        List<Product> products = new ArrayList<>(productRepository.findAllById(orderItemMap.keySet()));
+        products.sort(Comparator.comparing(Product::getId));
 
         Order order = new Order();
         order.setUser(user);
@@ -71,16 +112,7 @@ public class OrderService {
         List<OrderItem> orderItems = new ArrayList<>();
 
         for (Product product : products) {
-            OrderCreateRequest.OrderItemRequest itemRequest = orderItemMap.get(product.getId());
-            int quantity = itemRequest.quantity();
-            if (quantity <= 0) {
-                throw new BadRequestException("수량은 1 이상이어야 합니다.");
-            }
-
-            if (product.getStockQuantity() < quantity) {
-                throw new BadRequestException("재고가 부족한 상품이 있습니다: " + product.getName());
-            }
-
+            int quantity = orderItemMap.get(product.getId()).quantity();
             BigDecimal basePrice = product.getPrice();
             BigDecimal salesPrice = product.getEffectivePrice();
             BigDecimal itemTotal = basePrice.multiply(BigDecimal.valueOf(quantity));
@@ -89,8 +121,6 @@ public class OrderService {
             totalAmount = totalAmount.add(itemTotal);
             finalAmount = finalAmount.add(itemFinal);
 
-            product.decreaseStock(quantity);
-
             OrderItem orderItem = new OrderItem();
             orderItem.assignOrder(order);
             orderItem.setProduct(product);
@@ -107,6 +137,18 @@ public class OrderService {
         order.setDiscountAmount(totalAmount.subtract(finalAmount));
 
         orderRepository.save(order);
+        if (!flashSaleLines.isEmpty()) {
+            flashSaleInventory.append(order.getOrderNumber(), flashSaleLines);
+        }
+        dashboardCounters.orderPlaced(order);
+        List<Long> decreasedProductIds = orderItemMap.keySet().stream()
+                .filter(productId -> !flashSaleLines.containsKey(productId))
+                .toList();
+        if (!decreasedProductIds.isEmpty()) {
+            eventPublisher.publishEvent(ProductChangedEvent.stockChanged(decreasedProductIds));
+        }
+        eventPublisher.publishEvent(new OrderPlacedEvent(orderItems.stream()
+                .collect(Collectors.toMap(item -> item.getProduct().getId(), OrderItem::getQuantity))));
 
         List<ShoppingCartItem> cartItems = shoppingCartItemRepository.findByUser(user);
         List<ShoppingCartItem> toRemove = cartItems.stream()
@@ -125,11 +167,69 @@ public class OrderService {
                 .toList();
     }
 
-    public List<OrderSummaryResponse> getAllOrders() {
-        return orderRepository.findAll().stream()
-                .sorted((o1, o2) -> o2.getOrderDate().compareTo(o1.getOrderDate()))
-                .map(this::mapToSummaryResponse)
+    /**
+     * 주문일 최신순으로 한 페이지를 읽고, 그 페이지 주문들의 항목은 한 번의 조회로 함께 가져온다.
+     */
+    @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
+    public AdminOrderPageResponse getOrdersForAdmin(OrderStatus status,
+                                                    PaymentStatus paymentStatus,
+                                                    LocalDate from,
+                                                    LocalDate to,
+                                                    Long userId,
+                                                    BigDecimal minAmount,
+                                                    BigDecimal maxAmount,
+                                                    String cursor,
+                                                    int size) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new BadRequestException("최소 금액은 최대 금액보다 클 수 없습니다.");
+        }
+
+        OrderCursor after = cursor != null && !cursor.isBlank() ? OrderCursor.decode(cursor) : null;
+        AdminOrderQuery query = new AdminOrderQuery(
+                status,
+                paymentStatus,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null,
+                userId,
+                minAmount,
+                maxAmount,
+                after != null ? after.orderDate() : null,
+                after != null ? after.id() : null,
+                size + 1
+        );
+
+        List<Order> orders = orderRepository.findAdminPage(query);
+        boolean hasNext = orders.size() > size;
+        if (hasNext) {
+            orders = orders.subList(0, size);
+        }
+
+        Map<Long, List<OrderItemResponse>> itemsByOrder = new HashMap<>();
+        if (!orders.isEmpty()) {
+            List<Long> orderIds = orders.stream().map(Order::getId).toList();
+            for (OrderItem item : orderItemRepository.findByOrderIdIn(orderIds)) {
+                itemsByOrder.computeIfAbsent(item.getOrder().getId(), key -> new ArrayList<>()).add(mapToItemResponse(item));
+            }
+        }
+
+        List<AdminOrderSummaryResponse> items = orders.stream()
+                .map(order -> new AdminOrderSummaryResponse(
+                        order.getOrderNumber(),
+                        order.getUser().getId(),
+                        order.getUser().getEmail(),
+                        order.getStatus(),
+                        order.getPaymentMethod(),
+                        order.getPaymentStatus(),
+                        order.getFinalAmount(),
+                        order.getOrderDate(),
+                        itemsByOrder.getOrDefault(order.getId(), List.of())
+                ))
                 .toList();
+        String nextCursor = hasNext ? OrderCursor.of(orders.get(orders.size() - 1)).encode() : null;
+        return new AdminOrderPageResponse(items, nextCursor, hasNext);
     }
 
     @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
@@ -150,27 +250,54 @@ public class OrderService {
         }
         Order order = orderRepository.findByOrderNumber(orderNumber)
                 .orElseThrow(() -> new ResourceNotFoundException("주문을 찾을 수 없습니다."));
-        if (status != null) {
+        if (status != null && status != order.getStatus()) {
+            OrderStatus previous = order.getStatus();
             order.setStatus(status);
+            dashboardCounters.orderStatusChanged(order, previous);
         }
         if (paymentStatus != null) {
             order.setPaymentStatus(paymentStatus);
         }
     }
 
+    /**
+     * 재고를 차감하고, 한정 수량 판매 원장에서 예약했으면 true를 돌려준다.
+     */
+    private boolean reserveStock(Long productId, int quantity) {
+        FlashSaleLedger.Reservation reservation = flashSaleInventory.reserve(productId, quantity);
+        if (reservation == FlashSaleLedger.Reservation.RESERVED) {
+            return true;
+        }
+        if (reservation == FlashSaleLedger.Reservation.INSUFFICIENT
+                || productRepository.decreaseStock(productId, quantity) == 0) {
+            throw insufficientStock(productId);
+        }
+        return false;
+    }
+
+    private BadRequestException insufficientStock(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new BadRequestException("존재하지 않는 상품이 포함되어 있습니다."));
+        return new BadRequestException("재고가 부족한 상품이 있습니다: " + product.getName());
+    }
+
     private String generateOrderNumber() {
         return "ORD" + LocalDateTime.now().format(ORDER_NUMBER_FORMATTER) + UUID.randomUUID().toString().substring(0, 6).toUpperCase();
     }
 
+    private OrderItemResponse mapToItemResponse(OrderItem item) {
+        return new OrderItemResponse(
+                item.getProduct().getId(),
+                item.getProductName(),
+                item.getProductPrice(),
+                item.getQuantity(),
+                item.getSubtotal()
+        );
+    }
+
     private OrderDetailResponse mapToDetailResponse(Order order) {
         List<OrderItemResponse> itemResponses = order.getOrderItems().stream()
-                .map(item -> new OrderItemResponse(
-                        item.getProduct().getId(),
-                        item.getProductName(),
-                        item.getProductPrice(),
-                        item.getQuantity(),
-                        item.getSubtotal()
-                ))
+                .map(this::mapToItemResponse)
                 .toList();
 
         return new OrderDetailResponse(
@@ -191,13 +318,7 @@ public class OrderService {
 
     private OrderSummaryResponse mapToSummaryResponse(Order order) {
         List<OrderItemResponse> itemResponses = order.getOrderItems().stream()
-                .map(item -> new OrderItemResponse(
-                        item.getProduct().getId(),
-                        item.getProductName(),
-                        item.getProductPrice(),
-                        item.getQuantity(),
-                        item.getSubtotal()
-                ))
+                .map(this::mapToItemResponse)
                 .toList();
 
         return new OrderSummaryResponse(
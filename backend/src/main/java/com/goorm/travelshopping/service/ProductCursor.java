@@ -0,0 +1,43 @@
+package com.goorm.travelshopping.service;
+
+import com.goorm.travelshopping.exception.BadRequestException;
+import com.goorm.travelshopping.repository.ProductSort;
+import com.goorm.travelshopping.repository.ProductSummaryRow;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+public record ProductCursor(
+        ProductSort sort,
+        Object key,
+        Long id
+) {
+    private static final String SEPARATOR = "|";
+    private static final String NULL_KEY = "~";
+
+    public static ProductCursor of(ProductSort sort, ProductSummaryRow row) {
+        return new ProductCursor(sort, sort.keyOf(row), row.id());
+    }
+
+    public String encode() {
+        String keyText = key == null ? NULL_KEY : key.toString();
+        String raw = sort.name() + SEPARATOR + keyText + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String cursor, ProductSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(Pattern.quote(SEPARATOR), -1);
+            ProductSort sort = ProductSort.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                throw new BadRequestException("정렬 조건이 바뀌어 페이지 커서를 사용할 수 없습니다.");
+            }
+            Object key = NULL_KEY.equals(parts[1]) ? null : sort.parseKey(parts[1]);
+            return new ProductCursor(sort, key, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new BadRequestException("잘못된 페이지 커서입니다.");
+        }
+    }
+}
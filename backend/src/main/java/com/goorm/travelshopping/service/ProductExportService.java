@@ -0,0 +1,141 @@
+package com.goorm.travelshopping.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goorm.travelshopping.dto.product.ProductExportRow;
+import com.goorm.travelshopping.dto.product.ProductImageResponse;
+import com.goorm.travelshopping.entity.Product;
+import com.goorm.travelshopping.entity.ProductImage;
+import com.goorm.travelshopping.repository.ProductImageRepository;
+import com.goorm.travelshopping.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+
+/**
+ * 전체 상품을 이미지와 함께 NDJSON 또는 CSV로 내보낸다.
+ * 커서로 CHUNK_SIZE개씩 읽어 쓰고 영속성 컨텍스트를 비우므로 상품 수와 관계없이 메모리 사용량이 일정하다.
+ * CSV 열 구성은 일괄 등록 형식과 같아 내보낸 파일을 그대로 다시 등록할 수 있다.
+ */
+@Service
+public class ProductExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final List<String> CSV_COLUMNS = List.of(
+            "id", "categoryId", "name", "shortDescription", "description", "price", "salePrice",
+            "stockQuantity", "mainImageUrl", "status", "imageUrls"
+    );
+
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ProductExportService(ProductRepository productRepository,
+                                ProductImageRepository productImageRepository,
+                                ObjectMapper objectMapper) {
+        this.productRepository = productRepository;
+        this.productImageRepository = productImageRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional
+    public void export(ProductFileFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ProductFileFormat.CSV) {
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write('\n');
+        }
+
+        try (Stream<Product> products = productRepository.streamAllWithCategory()) {
+            Iterator<Product> iterator = products.iterator();
+            List<Product> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    writeChunk(chunk, format, writer);
+                    chunk.clear();
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeChunk(List<Product> chunk, ProductFileFormat format, Writer writer) throws IOException {
+        List<Long> productIds = chunk.stream().map(Product::getId).toList();
+        Map<Long, List<ProductImageResponse>> imagesByProduct = new HashMap<>();
+        for (ProductImage image : productImageRepository.findByProductIdInOrderByProductIdAscSortOrderAsc(productIds)) {
+            imagesByProduct.computeIfAbsent(image.getProduct().getId(), key -> new ArrayList<>())
+                    .add(new ProductImageResponse(image.getId(), image.getImageUrl(), image.getAltText(),
+                            image.getSortOrder(), image.getMain()));
+        }
+
+        for (Product product : chunk) {
+            ProductExportRow row = new ProductExportRow(
+                    product.getId(),
+                    product.getCategory().getId(),
+                    product.getCategory().getName(),
+                    product.getName(),
+                    product.getShortDescription(),
+                    product.getDescription(),
+                    product.getPrice(),
+                    product.getSalePrice(),
+                    product.getStockQuantity(),
+                    product.getMainImageUrl(),
+                    product.getStatus(),
+                    imagesByProduct.getOrDefault(product.getId(), List.of())
+            );
+            writer.write(format == ProductFileFormat.CSV ? toCsvLine(row) : objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+    }
+
+    private String toCsvLine(ProductExportRow row) {
+        String imageUrls = row.images().stream()
+                .map(ProductImageResponse::imageUrl)
+                .collect(Collectors.joining("|"));
+        return String.join(",",
+                csv(row.id()),
+                csv(row.categoryId()),
+                csv(row.name()),
+                csv(row.shortDescription()),
+                csv(row.description()),
+                csv(row.price()),
+                csv(row.salePrice()),
+                csv(row.stockQuantity()),
+                csv(row.mainImageUrl()),
+                csv(row.status()),
+                csv(imageUrls.isEmpty() ? null : imageUrls));
+    }
+
+    // 일괄 등록은 한 줄을 한 상품으로 읽으므로 줄바꿈은 공백으로 바꾸고, 쉼표나 큰따옴표가 있으면 큰따옴표로 감싼다.
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        text = text.replace("\r\n", " ").replace('\n', ' ').replace('\r', ' ');
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
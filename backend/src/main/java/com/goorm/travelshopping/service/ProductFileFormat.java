@@ -0,0 +1,40 @@
+package com.goorm.travelshopping.service;
+
+import com.goorm.travelshopping.exception.BadRequestException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+public enum ProductFileFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final MediaType mediaType;
+
+    ProductFileFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return name().toLowerCase();
+    }
+
+    public static ProductFileFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            try {
+                MediaType requested = MediaType.parseMediaType(contentType);
+                for (ProductFileFormat format : values()) {
+                    if (format.mediaType.isCompatibleWith(requested)) {
+                        return format;
+                    }
+                }
+            } catch (InvalidMediaTypeException ignored) {
+                // 아래에서 지원하지 않는 형식으로 처리한다.
+            }
+        }
+        throw new BadRequestException("text/csv 또는 application/x-ndjson 형식만 업로드할 수 있습니다.");
+    }
+}
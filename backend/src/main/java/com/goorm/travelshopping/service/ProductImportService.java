@@ -0,0 +1,280 @@
+package com.goorm.travelshopping.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goorm.travelshopping.dto.product.ProductCreateRequest;
+import com.goorm.travelshopping.dto.product.ProductImageRequest;
+import com.goorm.travelshopping.dto.product.ProductImportResponse;
+import com.goorm.travelshopping.entity.Category;
+import com.goorm.travelshopping.entity.enums.ProductStatus;
+import com.goorm.travelshopping.exception.BadRequestException;
+import com.goorm.travelshopping.repository.CategoryRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * CSV 또는 NDJSON 요청 본문을 한 줄씩 읽어 상품을 일괄 등록한다.
+ * 본문 전체를 메모리에 올리지 않고 CHUNK_SIZE개씩 묶어 별도 트랜잭션으로 저장하며,
+ * 실패한 줄은 건너뛰고 줄 번호와 사유를 모아 돌려준다.
+ */
+@Service
+public class ProductImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImportService.class);
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ProductImportWriter productImportWriter;
+    private final CategoryRepository categoryRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    public ProductImportService(ProductImportWriter productImportWriter,
+                                CategoryRepository categoryRepository,
+                                Validator validator,
+                                ObjectMapper objectMapper) {
+        this.productImportWriter = productImportWriter;
+        this.categoryRepository = categoryRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+    }
+
+    public ProductImportResponse importProducts(InputStream body, ProductFileFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        Map<Long, Optional<Category>> categories = new HashMap<>();
+        ImportReport report = new ImportReport();
+        List<ProductImportWriter.Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        Map<String, Integer> header = null;
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == ProductFileFormat.CSV && header == null) {
+                header = parseHeader(line);
+                continue;
+            }
+
+            report.totalRows++;
+            try {
+                ProductCreateRequest request = format == ProductFileFormat.CSV
+                        ? parseCsvRow(header, line)
+                        : objectMapper.readValue(line, ProductCreateRequest.class);
+                validate(request);
+                Category category = categories.computeIfAbsent(request.categoryId(), categoryRepository::findById)
+                        .orElseThrow(() -> new BadRequestException("카테고리를 찾을 수 없습니다."));
+                chunk.add(new ProductImportWriter.Row(lineNumber, request, category));
+            } catch (JsonProcessingException ex) {
+                report.fail(lineNumber, "JSON 형식이 올바르지 않습니다.");
+            } catch (IllegalArgumentException | BadRequestException ex) {
+                report.fail(lineNumber, ex.getMessage());
+            }
+
+            if (chunk.size() >= CHUNK_SIZE) {
+                writeChunk(chunk, report);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, report);
+        }
+
+        log.info("상품 일괄 등록 완료: 전체 {}건, 성공 {}건, 실패 {}건", report.totalRows, report.importedRows, report.failedRows);
+        return report.toResponse();
+    }
+
+    // 묶음 저장이 실패하면 어느 줄이 문제인지 알 수 있도록 한 줄씩 다시 저장한다.
+    private void writeChunk(List<ProductImportWriter.Row> chunk, ImportReport report) {
+        try {
+            report.importedRows += productImportWriter.write(chunk).size();
+            return;
+        } catch (DataAccessException ex) {
+            log.warn("상품 일괄 등록 묶음 저장 실패, 한 줄씩 다시 시도합니다: {}", ex.getMostSpecificCause().getMessage());
+        }
+        for (ProductImportWriter.Row row : chunk) {
+            try {
+                report.importedRows += productImportWriter.write(List.of(row)).size();
+            } catch (DataAccessException ex) {
+                report.fail(row.line(), "저장에 실패했습니다: " + ex.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private void validate(ProductCreateRequest request) {
+        Set<ConstraintViolation<ProductCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" ")));
+        }
+        ProductService.validateSalePrice(request.price(), request.salePrice());
+    }
+
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> columns = parseCsvLine(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i) != null) {
+                header.put(columns.get(i).trim(), i);
+            }
+        }
+        for (String required : List.of("categoryId", "name", "price", "stockQuantity")) {
+            if (!header.containsKey(required)) {
+                throw new BadRequestException("CSV 헤더에 " + required + " 열이 없습니다.");
+            }
+        }
+        return header;
+    }
+
+    // imageUrls 열은 '|'로 구분하며 첫 번째 이미지를 대표 이미지로 삼는다.
+    private ProductCreateRequest parseCsvRow(Map<String, Integer> header, String line) {
+        List<String> fields = parseCsvLine(line);
+        CsvRow row = new CsvRow(header, fields);
+
+        List<ProductImageRequest> images = null;
+        String imageUrls = row.get("imageUrls");
+        if (imageUrls != null) {
+            images = new ArrayList<>();
+            for (String url : imageUrls.split("\\|")) {
+                if (!url.isBlank()) {
+                    images.add(new ProductImageRequest(url.trim(), null, images.size(), images.isEmpty()));
+                }
+            }
+        }
+
+        return new ProductCreateRequest(
+                row.getLong("categoryId"),
+                row.get("name"),
+                row.get("shortDescription"),
+                row.get("description"),
+                row.getDecimal("price"),
+                row.getDecimal("salePrice"),
+                row.getInteger("stockQuantity"),
+                row.get("mainImageUrl"),
+                row.getStatus("status"),
+                images
+        );
+    }
+
+    /**
+     * RFC 4180 방식으로 한 줄을 나눈다. 큰따옴표로 감싼 필드 안의 쉼표와 두 번 쓴 큰따옴표를 처리하며,
+     * 빈 필드는 null이 된다. 필드 안의 줄바꿈은 지원하지 않는다.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    current.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.isEmpty() ? null : current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다.");
+        }
+        fields.add(current.isEmpty() ? null : current.toString());
+        return fields;
+    }
+
+    private record CsvRow(Map<String, Integer> header, List<String> fields) {
+
+        String get(String column) {
+            Integer index = header.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index);
+            return value == null || value.isBlank() ? null : value;
+        }
+
+        Long getLong(String column) {
+            String value = get(column);
+            try {
+                return value != null ? Long.valueOf(value.trim()) : null;
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다.");
+            }
+        }
+
+        Integer getInteger(String column) {
+            String value = get(column);
+            try {
+                return value != null ? Integer.valueOf(value.trim()) : null;
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다.");
+            }
+        }
+
+        ProductStatus getStatus(String column) {
+            String value = get(column);
+            try {
+                return value != null ? ProductStatus.valueOf(value.trim().toUpperCase()) : null;
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException(column + " 값이 올바르지 않습니다.");
+            }
+        }
+
+        BigDecimal getDecimal(String column) {
+            String value = get(column);
+            try {
+                return value != null ? new BigDecimal(value.trim()) : null;
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다.");
+            }
+        }
+    }
+
+    private static class ImportReport {
+        private int totalRows;
+        private int importedRows;
+        private int failedRows;
+        private final List<ProductImportResponse.RowError> errors = new ArrayList<>();
+
+        void fail(long line, String message) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ProductImportResponse.RowError(line, message));
+            }
+        }
+
+        ProductImportResponse toResponse() {
+            return new ProductImportResponse(totalRows, importedRows, failedRows, List.copyOf(errors), failedRows > errors.size());
+        }
+    }
+}
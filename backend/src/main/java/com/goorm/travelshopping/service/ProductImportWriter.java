@@ -0,0 +1,61 @@
+package com.goorm.travelshopping.service;
+
+import com.goorm.travelshopping.dto.product.ProductCreateRequest;
+import com.goorm.travelshopping.entity.Category;
+import com.goorm.travelshopping.entity.Product;
+import com.goorm.travelshopping.event.ProductChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일괄 등록의 한 묶음을 독립된 트랜잭션으로 저장한다. 묶음마다 영속성 컨텍스트를 비워 메모리를 일정하게 유지한다.
+ */
+@Component
+public class ProductImportWriter {
+
+    private final ProductService productService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ProductImportWriter(ProductService productService, ApplicationEventPublisher eventPublisher) {
+        this.productService = productService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public List<Long> write(List<Row> rows) {
+        List<Product> products = new ArrayList<>(rows.size());
+        // EntityManager를 직접 쓰므로 저장 실패를 DataAccessException으로 바꿔 호출하는 쪽이 원인을 꺼낼 수 있게 한다.
+        try {
+            for (Row row : rows) {
+                Product product = productService.buildProduct(row.request(), row.category());
+                entityManager.persist(product);
+                products.add(product);
+            }
+            entityManager.flush();
+        } catch (PersistenceException ex) {
+            throw EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(ex);
+        }
+
+        List<Long> productIds = products.stream().map(Product::getId).toList();
+        entityManager.clear();
+        eventPublisher.publishEvent(new ProductChangedEvent(productIds));
+        return productIds;
+    }
+
+    public record Row(
+            long line,
+            ProductCreateRequest request,
+            Category category
+    ) {
+    }
+}
@@ -1,26 +1,57 @@
 package com.goorm.travelshopping.service;
 
-import com.goorm.travelshopping.dto.product.CategoryResponse;
+import com.goorm.travelshopping.cache.ProductDetailCache;
+import com.goorm.travelshopping.cache.ProductDetailPayload;
+import com.goorm.travelshopping.cache.ProductSearchCache;
+import com.goorm.travelshopping.dto.product.AdminProductPageResponse;
 import com.goorm.travelshopping.dto.product.ProductCreateRequest;
 import com.goorm.travelshopping.dto.product.ProductDetailResponse;
 import com.goorm.travelshopping.dto.product.ProductImageRequest;
 import com.goorm.travelshopping.dto.product.ProductImageResponse;
+import com.goorm.travelshopping.dto.product.ProductFacetResponse;
+import com.goorm.travelshopping.dto.product.ProductPageResponse;
+import com.goorm.travelshopping.dto.product.ProductSearchResponse;
+import com.goorm.travelshopping.dto.product.ProductSuggestResponse;
 import com.goorm.travelshopping.dto.product.ProductSummaryResponse;
 import com.goorm.travelshopping.dto.product.ProductUpdateRequest;
 import com.goorm.travelshopping.entity.Category;
 import com.goorm.travelshopping.entity.Product;
 import com.goorm.travelshopping.entity.ProductImage;
 import com.goorm.travelshopping.entity.enums.ProductStatus;
+import com.goorm.travelshopping.event.ProductChangedEvent;
+import com.goorm.travelshopping.event.ProductDeletedEvent;
 import com.goorm.travelshopping.exception.BadRequestException;
 import com.goorm.travelshopping.exception.ResourceNotFoundException;
+import com.goorm.travelshopping.repository.AdminProductQuery;
 import com.goorm.travelshopping.repository.CategoryRepository;
+import com.goorm.travelshopping.repository.ProductImageRepository;
+import com.goorm.travelshopping.repository.ProductPageQuery;
 import com.goorm.travelshopping.repository.ProductRepository;
+import com.goorm.travelshopping.repository.ProductSort;
+import com.goorm.travelshopping.repository.ProductSummaryRow;
+import com.goorm.travelshopping.search.ProductFacetIndex;
+import com.goorm.travelshopping.search.ProductJamoIndex;
+import com.goorm.travelshopping.search.ProductSearchIndex;
+import com.goorm.travelshopping.search.ProductSuggestIndex;
+import com.goorm.travelshopping.search.ProductTrigramIndex;
+import com.goorm.travelshopping.search.SearchHit;
+import com.goorm.travelshopping.search.SearchMode;
+import com.goorm.travelshopping.search.Suggestion;
+import com.goorm.travelshopping.stats.ProductViewCounter;
+import com.goorm.travelshopping.stats.ProductVisitorTracker;
+import com.goorm.travelshopping.stats.TrendingTracker;
 import jakarta.transaction.Transactional;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -28,82 +59,246 @@ import org.springframework.util.StringUtils;
 @Transactional
 public class ProductService {
 
+    public static final int MAX_BATCH_SIZE = 50;
+    // 관련도순은 매 페이지 offset + size건을 다시 순위 매기므로 깊이를 제한한다. 검색 페이지도 같은 깊이까지만 허용한다.
+    public static final int MAX_RANKED_OFFSET = 10_000;
+    // 정렬을 지정한 키워드 목록은 관련도 상위 후보 안에서만 정렬해 IN 목록을 쿼리 한 번 크기로 묶는다.
+    private static final int MAX_KEYWORD_CANDIDATES = 500;
+
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
-
-    public ProductService(ProductRepository productRepository, CategoryRepository categoryRepository) {
+    private final ProductImageRepository productImageRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final ProductJamoIndex productJamoIndex;
+    private final ProductTrigramIndex productTrigramIndex;
+    private final ProductSearchCache productSearchCache;
+    private final ProductDetailCache productDetailCache;
+    private final ProductViewCounter productViewCounter;
+    private final TrendingTracker trendingTracker;
+    private final ProductVisitorTracker productVisitorTracker;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductService(ProductRepository productRepository,
+                          CategoryRepository categoryRepository,
+                          ProductImageRepository productImageRepository,
+                          ProductSearchIndex productSearchIndex,
+                          ProductFacetIndex productFacetIndex,
+                          ProductSuggestIndex productSuggestIndex,
+                          ProductJamoIndex productJamoIndex,
+                          ProductTrigramIndex productTrigramIndex,
+                          ProductSearchCache productSearchCache,
+                          ProductDetailCache productDetailCache,
+                          ProductViewCounter productViewCounter,
+                          TrendingTracker trendingTracker,
+                          ProductVisitorTracker productVisitorTracker,
+                          ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
         this.categoryRepository = categoryRepository;
+        this.productImageRepository = productImageRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.productFacetIndex = productFacetIndex;
+        this.productSuggestIndex = productSuggestIndex;
+        this.productJamoIndex = productJamoIndex;
+        this.productTrigramIndex = productTrigramIndex;
+        this.productSearchCache = productSearchCache;
+        this.productDetailCache = productDetailCache;
+        this.productViewCounter = productViewCounter;
+        this.trendingTracker = trendingTracker;
+        this.productVisitorTracker = productVisitorTracker;
+        this.eventPublisher = eventPublisher;
     }
 
-    @Transactional
-    public ProductDetailResponse increaseViewAndGetDetail(Long productId) {
-        Product product = productRepository.findWithCategory(productId)
-                .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다."));
+    @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
+    public ProductSearchResponse searchProducts(String keyword, SearchMode mode, ProductFacetIndex.FacetFilter filter, int page, int size) {
+        Set<Long> matchedIds = null;
+        if (StringUtils.hasText(keyword)) {
+            matchedIds = findKeywordMatches(keyword, mode);
+        }
 
-        product.increaseViewCount();
-        return mapToDetail(product);
+        long offset = (long) page * size;
+        if (offset > MAX_RANKED_OFFSET) {
+            throw new BadRequestException("조회할 수 있는 페이지 범위를 넘었습니다.");
+        }
+
+        ProductFacetIndex.FacetResult result = productFacetIndex.search(filter, matchedIds);
+        List<Long> pageIds = productFacetIndex.newestIds(result, (int) offset, size);
+
+        return new ProductSearchResponse(
+                findSummariesInOrder(pageIds),
+                result.total(),
+                page,
+                size,
+                new ProductFacetResponse(
+                        result.categoryCounts(),
+                        result.priceBandCounts(),
+                        result.ratingBandCounts(),
+                        result.inStockCount()
+                )
+        );
     }
 
     @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
-    public List<ProductSummaryResponse> getProducts(String keyword, Long categoryId) {
-        List<Product> products = productRepository.findByStatus(ProductStatus.ACTIVE);
-
-        return products.stream()
-                .filter(product -> matchesCategory(product, categoryId))
-                .filter(product -> matchesKeyword(product, keyword))
-                .sorted(Comparator.comparing(Product::getCreatedAt).reversed())
-                .map(this::mapToSummary)
-                .collect(Collectors.toList());
+    public ProductSuggestResponse suggest(String prefix, int limit) {
+        return new ProductSuggestResponse(
+                toSuggestItems(productSuggestIndex.suggestProducts(prefix, limit)),
+                toSuggestItems(productSuggestIndex.suggestCategories(prefix, limit))
+        );
     }
 
     @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
-    public List<CategoryResponse> getCategories() {
-        List<Category> roots = categoryRepository.findAllByParentIsNullOrderBySortOrderAsc();
-        return roots.stream()
-                .map(this::mapToCategoryResponse)
-                .collect(Collectors.toList());
+    public List<ProductSummaryResponse> getTrendingProducts(int limit) {
+        // 판매 중지되거나 삭제된 상품이 섞여 있을 수 있어 여유 있게 꺼낸 뒤 판매 중인 상품만 남긴다.
+        List<Long> rankedIds = trendingTracker.top(limit * 2).stream()
+                .map(TrendingTracker.TrendingScore::productId)
+                .toList();
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        ProductPageQuery query = new ProductPageQuery(null, rankedIds, ProductSort.LATEST, null, null, rankedIds.size());
+        Map<Long, ProductSummaryRow> rowsById = productRepository.findSummaryPage(query).stream()
+                .collect(Collectors.toMap(ProductSummaryRow::id, row -> row));
+        return rankedIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .map(ProductSummaryRow::toResponse)
+                .toList();
+    }
+
+    // 캐시에서 꺼내 304로 응답하는 경우에도 조회는 기록한다. 없는 상품이면 기록하기 전에 404가 난다.
+    @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
+    public ProductDetailPayload getDetailAndRecordView(Long productId, String visitorKey) {
+        ProductDetailPayload payload = productDetailCache.getOrLoad(productId, () -> getProductDetail(productId));
+
+        productViewCounter.record(productId);
+        trendingTracker.recordView(productId);
+        productVisitorTracker.record(productId, visitorKey);
+        return payload;
+    }
+
+    @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
+    public ProductPageResponse getProducts(String keyword, SearchMode mode, Long categoryId, ProductSort requestedSort, String cursor, int size) {
+        ProductSort sort = resolveSort(requestedSort, keyword);
+        ProductSearchCache.Key key = ProductSearchCache.Key.of(keyword, mode, categoryId, sort, cursor, size);
+        return productSearchCache.getOrLoad(key, () -> loadProductPage(keyword, mode, categoryId, sort, cursor, size));
     }
 
-    private boolean matchesCategory(Product product, Long categoryId) {
-        if (categoryId == null) {
-            return true;
+    private ProductPageResponse loadProductPage(String keyword, SearchMode mode, Long categoryId, ProductSort sort, String cursor, int size) {
+        if (sort.isRanked()) {
+            return loadRankedPage(keyword, mode, categoryId, cursor, size);
         }
-        Category category = product.getCategory();
-        while (category != null) {
-            if (Objects.equals(category.getId(), categoryId)) {
-                return true;
+
+        Set<Long> matchedIds = null;
+        if (StringUtils.hasText(keyword)) {
+            Predicate<Long> filter = categoryId != null ? productFacetIndex.categoryFilter(categoryId) : productId -> true;
+            matchedIds = new HashSet<>(rankKeywordMatches(keyword, mode, MAX_KEYWORD_CANDIDATES, filter));
+            if (matchedIds.isEmpty()) {
+                return new ProductPageResponse(List.of(), null, false);
             }
-            category = category.getParent();
         }
-        return false;
+
+        ProductCursor after = StringUtils.hasText(cursor) ? ProductCursor.decode(cursor, sort) : null;
+        ProductPageQuery query = new ProductPageQuery(
+                categoryId,
+                matchedIds,
+                sort,
+                after != null ? after.key() : null,
+                after != null ? after.id() : null,
+                size + 1
+        );
+
+        List<ProductSummaryRow> rows = productRepository.findSummaryPage(query);
+        boolean hasNext = rows.size() > size;
+        List<ProductSummaryRow> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ProductSummaryRow last = page.get(page.size() - 1);
+            nextCursor = ProductCursor.of(sort, last).encode();
+        }
+
+        return new ProductPageResponse(
+                page.stream().map(ProductSummaryRow::toResponse).toList(),
+                nextCursor,
+                hasNext
+        );
     }
 
-    private boolean matchesKeyword(Product product, String keyword) {
-        if (!StringUtils.hasText(keyword)) {
-            return true;
+    // 정렬을 지정하지 않으면 검색어가 있을 때 관련도순, 없을 때 최신순이다. 검색어 없는 관련도순도 최신순으로 처리한다.
+    private ProductSort resolveSort(ProductSort requestedSort, String keyword) {
+        boolean hasKeyword = StringUtils.hasText(keyword);
+        if (requestedSort == null) {
+            return hasKeyword ? ProductSort.RELEVANCE : ProductSort.LATEST;
         }
-        String lowerKeyword = keyword.toLowerCase();
-        return product.getName().toLowerCase().contains(lowerKeyword)
-                || (product.getShortDescription() != null
-                && product.getShortDescription().toLowerCase().contains(lowerKeyword))
-                || (product.getDescription() != null
-                && product.getDescription().toLowerCase().contains(lowerKeyword));
+        return requestedSort.isRanked() && !hasKeyword ? ProductSort.LATEST : requestedSort;
     }
 
-    private ProductSummaryResponse mapToSummary(Product product) {
-        return new ProductSummaryResponse(
-                product.getId(),
-                product.getName(),
-                product.getShortDescription(),
-                product.getPrice(),
-                product.getSalePrice(),
-                product.getEffectivePrice(),
-                product.getMainImageUrl(),
-                product.getViewCount(),
-                product.getRatingAverage(),
-                product.getRatingCount()
-        );
+    private ProductPageResponse loadRankedPage(String keyword, SearchMode mode, Long categoryId, String cursor, int size) {
+        ProductCursor after = StringUtils.hasText(cursor) ? ProductCursor.decode(cursor, ProductSort.RELEVANCE) : null;
+        int offset = after != null ? rankedOffset(after) : 0;
+        Predicate<Long> filter = categoryId != null ? productFacetIndex.categoryFilter(categoryId) : productId -> true;
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 순위 매긴다.
+        List<Long> rankedIds = rankKeywordMatches(keyword, mode, offset + size + 1, filter);
+        if (offset > rankedIds.size()) {
+            throw new BadRequestException("잘못된 페이지 커서입니다.");
+        }
+
+        int end = Math.min(offset + size, rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(offset, end);
+        boolean hasNext = rankedIds.size() > end && end <= MAX_RANKED_OFFSET;
+        String nextCursor = hasNext
+                ? new ProductCursor(ProductSort.RELEVANCE, (long) end, pageIds.get(pageIds.size() - 1)).encode()
+                : null;
+
+        return new ProductPageResponse(findSummariesInOrder(pageIds), nextCursor, hasNext);
+    }
+
+    // 커서는 클라이언트가 보낸 값이므로 int로 줄이기 전에 범위를 확인한다.
+    private int rankedOffset(ProductCursor cursor) {
+        if (!(cursor.key() instanceof Long offset) || offset < 0 || offset > MAX_RANKED_OFFSET) {
+            throw new BadRequestException("잘못된 페이지 커서입니다.");
+        }
+        return offset.intValue();
+    }
+
+    private Set<Long> findKeywordMatches(String keyword, SearchMode mode) {
+        return switch (mode) {
+            case KEYWORD -> productSearchIndex.search(keyword);
+            case JAMO -> productJamoIndex.search(keyword);
+            case FUZZY -> productTrigramIndex.search(keyword).stream()
+                    .map(SearchHit::id)
+                    .collect(Collectors.toSet());
+        };
+    }
+
+    private List<Long> rankKeywordMatches(String keyword, SearchMode mode, int limit, Predicate<Long> filter) {
+        Stream<Long> ranked = switch (mode) {
+            case KEYWORD -> productSearchIndex.topHits(keyword, limit, filter).stream().map(SearchHit::id);
+            case FUZZY -> productTrigramIndex.search(keyword).stream().map(SearchHit::id);
+            // 점수가 없는 검색 방식은 최근 등록 순으로 둔다.
+            case JAMO -> productJamoIndex.search(keyword).stream().sorted(Comparator.reverseOrder());
+        };
+        return ranked.filter(filter).limit(limit).toList();
+    }
+
+    private List<ProductSummaryResponse> findSummariesInOrder(List<Long> productIds) {
+        Map<Long, ProductSummaryRow> rowsById = productRepository.findSummariesByIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductSummaryRow::id, row -> row));
+        return productIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .map(ProductSummaryRow::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    private List<ProductSuggestResponse.SuggestItem> toSuggestItems(List<Suggestion> suggestions) {
+        return suggestions.stream()
+                .map(suggestion -> new ProductSuggestResponse.SuggestItem(suggestion.id(), suggestion.name()))
+                .collect(Collectors.toList());
     }
 
     private ProductDetailResponse mapToDetail(Product product) {
@@ -126,7 +321,7 @@ public class ProductService {
                 product.getCategory() != null ? product.getCategory().getName() : null,
                 product.getStatus(),
                 images,
-                product.getViewCount(),
+                productViewCounter.currentCount(product.getId(), product.getViewCount()),
                 product.getRatingAverage(),
                 product.getRatingCount()
         );
@@ -142,25 +337,17 @@ public class ProductService {
         );
     }
 
-    private CategoryResponse mapToCategoryResponse(Category category) {
-        List<CategoryResponse> children = category.getChildren().stream()
-                .sorted(Comparator.comparing(child -> child.getSortOrder() == null ? Integer.MAX_VALUE : child.getSortOrder()))
-                .map(this::mapToCategoryResponse)
-                .collect(Collectors.toList());
+    @Transactional
+    public ProductDetailResponse createProduct(ProductCreateRequest request) {
+        Product product = buildProduct(request, getCategoryOrThrow(request.categoryId()));
 
-        return new CategoryResponse(
-                category.getId(),
-                category.getName(),
-                category.getDescription(),
-                category.getSortOrder(),
-                category.getStatus().name(),
-                children
-        );
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(saved.getId()));
+        return mapToDetail(saved);
     }
 
-    @Transactional
-    public ProductDetailResponse createProduct(ProductCreateRequest request) {
-        Category category = getCategoryOrThrow(request.categoryId());
+    // 단건 등록과 일괄 등록이 같은 검증과 기본값을 쓰도록 상품 구성을 한곳에 둔다.
+    Product buildProduct(ProductCreateRequest request, Category category) {
         validateSalePrice(request.price(), request.salePrice());
 
         Product product = new Product();
@@ -173,14 +360,11 @@ public class ProductService {
         product.setStockQuantity(request.stockQuantity());
         product.setMainImageUrl(request.mainImageUrl());
         product.setStatus(request.status() != null ? request.status() : ProductStatus.ACTIVE);
-        product.setViewCount(0L);
         product.setRatingAverage(null);
         product.setRatingCount(null);
 
         applyImages(product, request.images());
-
-        Product saved = productRepository.save(product);
-        return mapToDetail(saved);
+        return product;
     }
 
     @Transactional
@@ -190,6 +374,10 @@ public class ProductService {
 
         Category category = getCategoryOrThrow(request.categoryId());
         validateSalePrice(request.price(), request.salePrice());
+        // 한정 수량 판매 중에는 재고가 메모리 원장에 있으므로 DB 값을 덮어쓰면 원장과 어긋난다.
+        if (product.isFlashSale() && !Objects.equals(product.getStockQuantity(), request.stockQuantity())) {
+            throw new BadRequestException("플래시 세일 중인 상품의 재고는 변경할 수 없습니다.");
+        }
 
         product.setCategory(category);
         product.setName(request.name());
@@ -197,6 +385,7 @@ public class ProductService {
         product.setDescription(request.description());
         product.setPrice(request.price());
         product.setSalePrice(request.salePrice());
+        product.leaveSaleCampaign();
         product.setStockQuantity(request.stockQuantity());
         product.setMainImageUrl(request.mainImageUrl());
         if (request.status() != null) {
@@ -205,10 +394,30 @@ public class ProductService {
 
         applyImages(product, request.images());
 
+        eventPublisher.publishEvent(ProductChangedEvent.of(product.getId()));
         return mapToDetail(product);
     }
 
 
+    /**
+     * 카테고리와 이미지를 한 번의 조회로 함께 읽어 요청한 순서대로 돌려준다. 없는 ID와 중복 ID는 건너뛴다.
+     */
+    @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
+    public List<ProductDetailResponse> getProductDetails(List<Long> productIds) {
+        List<Long> distinctIds = productIds.stream().distinct().toList();
+        if (distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("한 번에 조회할 수 있는 상품은 " + MAX_BATCH_SIZE + "개 이하입니다.");
+        }
+
+        Map<Long, Product> productsById = productRepository.findAllWithCategoryAndImagesByIdIn(distinctIds).stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+        return distinctIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToDetail)
+                .toList();
+    }
+
     @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
     public ProductDetailResponse getProductDetail(Long productId) {
         Product product = productRepository.findWithCategory(productId)
@@ -221,16 +430,27 @@ public class ProductService {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException("상품을 찾을 수 없습니다."));
         productRepository.delete(product);
+        eventPublisher.publishEvent(new ProductDeletedEvent(productId));
     }
 
     @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
-    public List<ProductDetailResponse> getProductsForAdmin(ProductStatus status) {
-        List<Product> products = status != null ? productRepository.findByStatus(status) : productRepository.findAll();
+    public AdminProductPageResponse getProductsForAdmin(AdminProductQuery query) {
+        return new AdminProductPageResponse(
+                productRepository.findAdminPage(query),
+                productRepository.countAdminPage(query),
+                query.page(),
+                query.size()
+        );
+    }
 
-        return products.stream()
-                .sorted(Comparator.comparing(Product::getCreatedAt).reversed())
-                .map(this::mapToDetail)
-                .collect(Collectors.toList());
+    @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
+    public List<ProductImageResponse> getProductImages(Long productId) {
+        if (!productRepository.existsById(productId)) {
+            throw new ResourceNotFoundException("상품을 찾을 수 없습니다.");
+        }
+        return productImageRepository.findByProductIdOrderBySortOrderAsc(productId).stream()
+                .map(this::mapToImageResponse)
+                .toList();
     }
 
     private Category getCategoryOrThrow(Long categoryId) {
@@ -238,7 +458,7 @@ public class ProductService {
                 .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다."));
     }
 
-    private void validateSalePrice(java.math.BigDecimal price, java.math.BigDecimal salePrice) {
+    static void validateSalePrice(java.math.BigDecimal price, java.math.BigDecimal salePrice) {
         if (salePrice != null && price != null && salePrice.compareTo(price) > 0) {
             throw new BadRequestException("할인 가격은 정가보다 클 수 없습니다.");
         }
@@ -0,0 +1,39 @@
+package com.goorm.travelshopping.service;
+
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SaleCampaignScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SaleCampaignScheduler.class);
+
+    private final SaleCampaignService saleCampaignService;
+
+    public SaleCampaignScheduler(SaleCampaignService saleCampaignService) {
+        this.saleCampaignService = saleCampaignService;
+    }
+
+    // 끝난 행사를 먼저 되돌려야 그 상품이 새로 시작하는 행사에 포함될 수 있다.
+    @Scheduled(fixedDelayString = "${app.sale-campaign.poll-interval-ms:60000}")
+    public void run() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long campaignId : saleCampaignService.findCampaignsToEnd(now)) {
+            try {
+                saleCampaignService.endCampaign(campaignId);
+            } catch (RuntimeException ex) {
+                log.warn("할인 행사 종료 반영 실패: id={}", campaignId, ex);
+            }
+        }
+        for (Long campaignId : saleCampaignService.findCampaignsToStart(now)) {
+            try {
+                saleCampaignService.startCampaign(campaignId, now);
+            } catch (RuntimeException ex) {
+                log.warn("할인 행사 시작 반영 실패: id={}", campaignId, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.goorm.travelshopping.service;
+
+import com.goorm.travelshopping.dto.campaign.SaleCampaignCreateRequest;
+import com.goorm.travelshopping.dto.campaign.SaleCampaignResponse;
+import com.goorm.travelshopping.entity.SaleCampaign;
+import com.goorm.travelshopping.entity.enums.DiscountType;
+import com.goorm.travelshopping.entity.enums.SaleCampaignStatus;
+import com.goorm.travelshopping.event.ProductChangedEvent;
+import com.goorm.travelshopping.exception.BadRequestException;
+import com.goorm.travelshopping.exception.ResourceNotFoundException;
+import com.goorm.travelshopping.repository.CategoryRepository;
+import com.goorm.travelshopping.repository.SaleCampaignRepository;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 할인 행사의 시작과 종료를 상품 단위 저장 대신 한 번의 UPDATE 문으로 반영한다.
+ * 반영된 상품은 ProductChangedEvent 한 건으로 알리므로 카탈로그 버전도 행사마다 한 번만 올라간다.
+ */
+@Service
+public class SaleCampaignService {
+
+    private static final Logger log = LoggerFactory.getLogger(SaleCampaignService.class);
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    // 행사가는 price * factor - amount로 계산한다. 정률 할인은 (1 - 할인율, 0), 정액 할인은 (1, 할인액)이다.
+    // 0보다 크고 정가 이하이며 현재 판매가보다 낮아지는 상품에만 적용하고, 다른 행사에 묶인 상품은 건너뛴다.
+    private static final String CAMPAIGN_PRICE = "ROUND(price * :factor - :amount, 2)";
+    private static final String APPLY_SQL = "UPDATE products SET "
+            + "original_sale_price = sale_price, "
+            + "sale_campaign_id = :campaignId, "
+            + "sale_price = " + CAMPAIGN_PRICE + ", "
+            + "effective_price = " + CAMPAIGN_PRICE + ", "
+            + "updated_at = CURRENT_TIMESTAMP "
+            + "WHERE sale_campaign_id IS NULL "
+            + "AND (id IN (SELECT product_id FROM sale_campaign_products WHERE campaign_id = :campaignId) "
+            + "OR category_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :categoryId)) "
+            + "AND " + CAMPAIGN_PRICE + " > 0 "
+            + "AND " + CAMPAIGN_PRICE + " <= price "
+            + "AND " + CAMPAIGN_PRICE + " < effective_price";
+    // original_sale_price는 다른 열에서 참조한 뒤 마지막에 비운다.
+    private static final String REVERT_SQL = "UPDATE products SET "
+            + "sale_price = original_sale_price, "
+            + "effective_price = COALESCE(original_sale_price, price), "
+            + "sale_campaign_id = NULL, "
+            + "original_sale_price = NULL, "
+            + "updated_at = CURRENT_TIMESTAMP "
+            + "WHERE sale_campaign_id = :campaignId";
+    private static final String CAMPAIGN_PRODUCTS_SQL = "SELECT id FROM products WHERE sale_campaign_id = :campaignId";
+
+    private final SaleCampaignRepository saleCampaignRepository;
+    private final CategoryRepository categoryRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SaleCampaignService(SaleCampaignRepository saleCampaignRepository,
+                               CategoryRepository categoryRepository,
+                               NamedParameterJdbcTemplate jdbcTemplate,
+                               ApplicationEventPublisher eventPublisher) {
+        this.saleCampaignRepository = saleCampaignRepository;
+        this.categoryRepository = categoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
+    public List<SaleCampaignResponse> getCampaigns() {
+        return saleCampaignRepository.findAllByOrderByStartsAtDesc().stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    @Transactional
+    public SaleCampaignResponse createCampaign(SaleCampaignCreateRequest request) {
+        boolean hasProducts = request.productIds() != null && !request.productIds().isEmpty();
+        if (request.categoryId() == null && !hasProducts) {
+            throw new BadRequestException("행사 대상 카테고리나 상품을 지정해야 합니다.");
+        }
+        if (request.categoryId() != null && !categoryRepository.existsById(request.categoryId())) {
+            throw new ResourceNotFoundException("카테고리를 찾을 수 없습니다.");
+        }
+        if (request.discountType() == DiscountType.PERCENT && request.discountValue().compareTo(HUNDRED) >= 0) {
+            throw new BadRequestException("할인율은 100보다 작아야 합니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (!request.endsAt().isAfter(request.startsAt()) || !request.endsAt().isAfter(now)) {
+            throw new BadRequestException("종료 시각은 시작 시각과 현재 시각 이후여야 합니다.");
+        }
+
+        SaleCampaign campaign = new SaleCampaign();
+        campaign.setName(request.name());
+        campaign.setDiscountType(request.discountType());
+        campaign.setDiscountValue(request.discountValue());
+        campaign.setCategoryId(request.categoryId());
+        campaign.setProductIds(hasProducts ? new HashSet<>(request.productIds()) : new HashSet<>());
+        campaign.setStartsAt(request.startsAt());
+        campaign.setEndsAt(request.endsAt());
+        campaign.setStatus(SaleCampaignStatus.SCHEDULED);
+
+        // 대상 상품 목록을 UPDATE 문의 하위 질의가 읽으므로 먼저 반영한다.
+        SaleCampaign saved = saleCampaignRepository.saveAndFlush(campaign);
+        if (!saved.getStartsAt().isAfter(now)) {
+            apply(saved);
+        }
+        return mapToResponse(saved);
+    }
+
+    @Transactional
+    public SaleCampaignResponse cancelCampaign(Long campaignId) {
+        SaleCampaign campaign = getCampaignOrThrow(campaignId);
+        if (campaign.getStatus() == SaleCampaignStatus.ENDED || campaign.getStatus() == SaleCampaignStatus.CANCELLED) {
+            throw new BadRequestException("이미 종료된 행사입니다.");
+        }
+        if (campaign.getStatus() == SaleCampaignStatus.ACTIVE) {
+            revert(campaign);
+        }
+        campaign.setStatus(SaleCampaignStatus.CANCELLED);
+        return mapToResponse(campaign);
+    }
+
+    @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
+    public List<Long> findCampaignsToStart(LocalDateTime now) {
+        return saleCampaignRepository.findByStatusAndStartsAtLessThanEqualOrderByStartsAtAsc(SaleCampaignStatus.SCHEDULED, now)
+                .stream()
+                .map(SaleCampaign::getId)
+                .toList();
+    }
+
+    @Transactional(value = jakarta.transaction.Transactional.TxType.SUPPORTS)
+    public List<Long> findCampaignsToEnd(LocalDateTime now) {
+        return saleCampaignRepository.findByStatusAndEndsAtLessThanEqualOrderByEndsAtAsc(SaleCampaignStatus.ACTIVE, now)
+                .stream()
+                .map(SaleCampaign::getId)
+                .toList();
+    }
+
+    // 스케줄러가 행사마다 따로 호출하므로 한 행사의 실패가 다른 행사의 반영을 막지 않는다.
+    @Transactional
+    public void startCampaign(Long campaignId, LocalDateTime now) {
+        SaleCampaign campaign = getCampaignOrThrow(campaignId);
+        if (campaign.getStatus() != SaleCampaignStatus.SCHEDULED) {
+            return;
+        }
+        if (!campaign.getEndsAt().isAfter(now)) {
+            campaign.setStatus(SaleCampaignStatus.ENDED);
+            return;
+        }
+        apply(campaign);
+    }
+
+    @Transactional
+    public void endCampaign(Long campaignId) {
+        SaleCampaign campaign = getCampaignOrThrow(campaignId);
+        if (campaign.getStatus() != SaleCampaignStatus.ACTIVE) {
+            return;
+        }
+        revert(campaign);
+        campaign.setStatus(SaleCampaignStatus.ENDED);
+    }
+
+    private void apply(SaleCampaign campaign) {
+        boolean percent = campaign.getDiscountType() == DiscountType.PERCENT;
+        BigDecimal factor = percent
+                ? HUNDRED.subtract(campaign.getDiscountValue()).divide(HUNDRED, 6, RoundingMode.HALF_UP)
+                : BigDecimal.ONE;
+        BigDecimal amount = percent ? BigDecimal.ZERO : campaign.getDiscountValue();
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("campaignId", campaign.getId())
+                .addValue("categoryId", campaign.getCategoryId())
+                .addValue("factor", factor)
+                .addValue("amount", amount);
+        int updated = jdbcTemplate.update(APPLY_SQL, params);
+
+        campaign.setStatus(SaleCampaignStatus.ACTIVE);
+        campaign.setAppliedProductCount(updated);
+        publishChanged(campaign.getId());
+        log.info("할인 행사 시작: id={}, 적용 상품 {}건", campaign.getId(), updated);
+    }
+
+    private void revert(SaleCampaign campaign) {
+        publishChanged(campaign.getId());
+        int reverted = jdbcTemplate.update(REVERT_SQL, Map.of("campaignId", campaign.getId()));
+        log.info("할인 행사 종료: id={}, 복원 상품 {}건", campaign.getId(), reverted);
+    }
+
+    // 대상 상품은 행사 ID로 찾으므로 시작할 때는 UPDATE 뒤에, 종료할 때는 UPDATE 앞에서 읽는다.
+    private void publishChanged(Long campaignId) {
+        List<Long> productIds = jdbcTemplate.queryForList(CAMPAIGN_PRODUCTS_SQL, Map.of("campaignId", campaignId), Long.class);
+        if (!productIds.isEmpty()) {
+            eventPublisher.publishEvent(new ProductChangedEvent(productIds));
+        }
+    }
+
+    private SaleCampaign getCampaignOrThrow(Long campaignId) {
+        return saleCampaignRepository.findByIdForUpdate(campaignId)
+                .orElseThrow(() -> new ResourceNotFoundException("할인 행사를 찾을 수 없습니다."));
+    }
+
+    private SaleCampaignResponse mapToResponse(SaleCampaign campaign) {
+        return new SaleCampaignResponse(
+                campaign.getId(),
+                campaign.getName(),
+                campaign.getDiscountType(),
+                campaign.getDiscountValue(),
+                campaign.getCategoryId(),
+                Set.copyOf(campaign.getProductIds()),
+                campaign.getStartsAt(),
+                campaign.getEndsAt(),
+                campaign.getStatus(),
+                campaign.getAppliedProductCount()
+        );
+    }
+}
@@ -8,6 +8,7 @@ import com.goorm.travelshopping.entity.enums.UserStatus;
 import com.goorm.travelshopping.exception.BadRequestException;
 import com.goorm.travelshopping.exception.ResourceNotFoundException;
 import com.goorm.travelshopping.repository.UserRepository;
+import com.goorm.travelshopping.stats.DashboardCounters;
 import jakarta.transaction.Transactional;
 import java.util.Optional;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,10 +19,12 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DashboardCounters dashboardCounters;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, DashboardCounters dashboardCounters) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.dashboardCounters = dashboardCounters;
     }
 
     @Transactional
@@ -44,6 +47,7 @@ public class UserService {
         user.setStatus(UserStatus.ACTIVE);
 
         User saved = userRepository.save(user);
+        dashboardCounters.userRegistered(saved.getStatus());
         return toResponse(saved);
     }
 
@@ -0,0 +1,211 @@
+package com.goorm.travelshopping.stats;
+
+import com.goorm.travelshopping.dto.stats.DashboardStatsResponse;
+import com.goorm.travelshopping.entity.Order;
+import com.goorm.travelshopping.entity.enums.OrderStatus;
+import com.goorm.travelshopping.entity.enums.UserStatus;
+import com.goorm.travelshopping.event.DashboardStatsChangedEvent;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대시보드 집계를 stat_counters에 누적한다. 주문과 회원 변경 트랜잭션 안에서 함께 갱신되므로 롤백되면 집계도 되돌아가고,
+ * 조회는 COUNT 대신 카운터 몇 행만 읽는다. 원본 테이블과 어긋난 값은 주기적인 대사 작업이 바로잡는다.
+ */
+@Component
+public class DashboardCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardCounters.class);
+    private static final int SLOTS = 8;
+    // 취소나 반품된 주문은 매출에서 뺀다.
+    private static final Set<OrderStatus> EXCLUDED_FROM_REVENUE = Set.of(OrderStatus.CANCELED, OrderStatus.RETURNED);
+
+    private static final String UPSERT_SQL = "INSERT INTO stat_counters (counter_key, slot, counter_value) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE counter_value = counter_value + VALUES(counter_value)";
+    private static final String INCREMENT_SQL = "UPDATE stat_counters SET counter_value = counter_value + ? "
+            + "WHERE counter_key = ? AND slot = ?";
+    private static final String SUM_SQL = "SELECT counter_key, SUM(counter_value) AS total FROM stat_counters "
+            + "WHERE counter_key IN (:keys) GROUP BY counter_key";
+    private static final String ORDERS_BY_STATUS_SQL = "SELECT status, COUNT(*) AS total FROM orders GROUP BY status";
+    private static final String USERS_BY_STATUS_SQL = "SELECT status, COUNT(*) AS total FROM users GROUP BY status";
+    private static final String REVENUE_SQL = "SELECT COALESCE(SUM(final_amount), 0) FROM orders "
+            + "WHERE order_date >= ? AND order_date < ? AND status NOT IN ('CANCELED', 'RETURNED')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DashboardCounters(JdbcTemplate jdbcTemplate,
+                             NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                             ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void orderPlaced(Order order) {
+        add(orderStatusKey(order.getStatus()), BigDecimal.ONE);
+        if (!EXCLUDED_FROM_REVENUE.contains(order.getStatus())) {
+            addRevenue(order, order.getFinalAmount());
+        }
+        eventPublisher.publishEvent(new DashboardStatsChangedEvent());
+    }
+
+    public void orderStatusChanged(Order order, OrderStatus previous) {
+        OrderStatus current = order.getStatus();
+        if (previous == current) {
+            return;
+        }
+        add(orderStatusKey(previous), BigDecimal.ONE.negate());
+        add(orderStatusKey(current), BigDecimal.ONE);
+
+        boolean wasCounted = !EXCLUDED_FROM_REVENUE.contains(previous);
+        boolean isCounted = !EXCLUDED_FROM_REVENUE.contains(current);
+        if (wasCounted != isCounted) {
+            addRevenue(order, isCounted ? order.getFinalAmount() : order.getFinalAmount().negate());
+        }
+        eventPublisher.publishEvent(new DashboardStatsChangedEvent());
+    }
+
+    public void userRegistered(UserStatus status) {
+        add(userStatusKey(status), BigDecimal.ONE);
+        eventPublisher.publishEvent(new DashboardStatsChangedEvent());
+    }
+
+    @Transactional(value = Transactional.TxType.SUPPORTS)
+    public DashboardStatsResponse snapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        String todayKey = revenueDayKey(now.toLocalDate());
+        String monthKey = revenueMonthKey(YearMonth.from(now));
+        String activeUsersKey = userStatusKey(UserStatus.ACTIVE);
+
+        List<String> keys = new ArrayList<>(List.of(todayKey, monthKey, activeUsersKey));
+        for (OrderStatus status : OrderStatus.values()) {
+            keys.add(orderStatusKey(status));
+        }
+        Map<String, BigDecimal> values = sum(keys);
+
+        Map<OrderStatus, Long> ordersByStatus = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            ordersByStatus.put(status, values.getOrDefault(orderStatusKey(status), BigDecimal.ZERO).longValue());
+        }
+        return new DashboardStatsResponse(
+                ordersByStatus,
+                values.getOrDefault(todayKey, BigDecimal.ZERO),
+                values.getOrDefault(monthKey, BigDecimal.ZERO),
+                values.getOrDefault(activeUsersKey, BigDecimal.ZERO).longValue(),
+                now
+        );
+    }
+
+    /**
+     * 원본 테이블에서 다시 집계한 값과 카운터 합계의 차이만큼 보정한다. 기동 직후에도 실행해 기존 데이터를 채운다.
+     * 대사 중에 커밋된 주문 때문에 잠시 어긋날 수 있지만 다음 주기에 다시 맞춰진다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.dashboard-stats.reconcile-interval-ms:600000}",
+            initialDelayString = "${app.dashboard-stats.reconcile-interval-ms:600000}")
+    @Transactional
+    public void reconcile() {
+        Map<String, BigDecimal> expected = new LinkedHashMap<>();
+        for (OrderStatus status : OrderStatus.values()) {
+            expected.put(orderStatusKey(status), BigDecimal.ZERO);
+        }
+        for (UserStatus status : UserStatus.values()) {
+            expected.put(userStatusKey(status), BigDecimal.ZERO);
+        }
+        jdbcTemplate.query(ORDERS_BY_STATUS_SQL, rs -> {
+            expected.put(orderStatusKey(OrderStatus.valueOf(rs.getString("status"))), BigDecimal.valueOf(rs.getLong("total")));
+        });
+        jdbcTemplate.query(USERS_BY_STATUS_SQL, rs -> {
+            expected.put(userStatusKey(UserStatus.valueOf(rs.getString("status"))), BigDecimal.valueOf(rs.getLong("total")));
+        });
+
+        LocalDate today = LocalDate.now();
+        YearMonth month = YearMonth.from(today);
+        expected.put(revenueDayKey(today),
+                revenue(today.atStartOfDay(), today.plusDays(1).atStartOfDay()));
+        expected.put(revenueMonthKey(month),
+                revenue(month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay()));
+
+        Map<String, BigDecimal> actual = sum(expected.keySet());
+        int corrected = 0;
+        for (Map.Entry<String, BigDecimal> entry : expected.entrySet()) {
+            BigDecimal drift = entry.getValue().subtract(actual.getOrDefault(entry.getKey(), BigDecimal.ZERO));
+            if (drift.signum() != 0) {
+                jdbcTemplate.update(UPSERT_SQL, entry.getKey(), 0, drift);
+                corrected++;
+                log.warn("대시보드 집계 보정: {} {}", entry.getKey(), drift);
+            }
+        }
+        if (corrected > 0) {
+            eventPublisher.publishEvent(new DashboardStatsChangedEvent());
+        }
+    }
+
+    private BigDecimal revenue(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForObject(REVENUE_SQL, BigDecimal.class, from, to);
+    }
+
+    private void addRevenue(Order order, BigDecimal amount) {
+        LocalDate orderDate = order.getOrderDate().toLocalDate();
+        add(revenueDayKey(orderDate), amount);
+        add(revenueMonthKey(YearMonth.from(orderDate)), amount);
+    }
+
+    private void add(String key, BigDecimal delta) {
+        int slot = ThreadLocalRandom.current().nextInt(SLOTS);
+        try {
+            jdbcTemplate.update(UPSERT_SQL, key, slot, delta);
+        } catch (DuplicateKeyException ex) {
+            // 같은 슬롯의 첫 행을 다른 트랜잭션이 먼저 넣은 경우다. 이제 행이 있으므로 더하기만 한다.
+            jdbcTemplate.update(INCREMENT_SQL, delta, key, slot);
+        }
+    }
+
+    private Map<String, BigDecimal> sum(Collection<String> keys) {
+        Map<String, BigDecimal> values = new HashMap<>();
+        namedParameterJdbcTemplate.query(SUM_SQL, Map.of("keys", keys), rs -> {
+            values.put(rs.getString("counter_key"), rs.getBigDecimal("total"));
+        });
+        return values;
+    }
+
+    private static String orderStatusKey(OrderStatus status) {
+        return "order.status." + status.name();
+    }
+
+    private static String userStatusKey(UserStatus status) {
+        return "user.status." + status.name();
+    }
+
+    private static String revenueDayKey(LocalDate date) {
+        return "revenue.day." + date;
+    }
+
+    private static String revenueMonthKey(YearMonth month) {
+        return "revenue.month." + month;
+    }
+}
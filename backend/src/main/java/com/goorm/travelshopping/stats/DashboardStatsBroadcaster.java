@@ -0,0 +1,69 @@
+package com.goorm.travelshopping.stats;
+
+import com.goorm.travelshopping.dto.stats.DashboardStatsResponse;
+import com.goorm.travelshopping.event.DashboardStatsChangedEvent;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 관리자 대시보드 구독자에게 집계 스냅샷을 Server-Sent Events로 보낸다.
+ * 변경이 커밋될 때마다 보내지 않고 표시만 해 두었다가 짧은 주기로 한 번씩 보내므로, 주문이 몰려도 조회는 주기당 한 번이다.
+ */
+@Component
+public class DashboardStatsBroadcaster {
+
+    private static final long EMITTER_TIMEOUT_MS = 30L * 60 * 1000;
+    private static final String EVENT_NAME = "stats";
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final DashboardCounters dashboardCounters;
+
+    public DashboardStatsBroadcaster(DashboardCounters dashboardCounters) {
+        this.dashboardCounters = dashboardCounters;
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        // 구독 직후 현재 값을 보내 다음 변경을 기다리지 않고 화면을 채운다.
+        send(emitter, dashboardCounters.snapshot());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsChanged(DashboardStatsChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard-stats.push-interval-ms:1000}")
+    public void pushIfChanged() {
+        if (emitters.isEmpty() || !dirty.getAndSet(false)) {
+            return;
+        }
+        DashboardStatsResponse stats = dashboardCounters.snapshot();
+        for (SseEmitter emitter : emitters) {
+            send(emitter, stats);
+        }
+    }
+
+    private void send(SseEmitter emitter, DashboardStatsResponse stats) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(stats));
+        } catch (IOException | IllegalStateException ex) {
+            // 연결이 끊긴 구독자는 목록에서 뺀다.
+            emitters.remove(emitter);
+            emitter.completeWithError(ex);
+        }
+    }
+}
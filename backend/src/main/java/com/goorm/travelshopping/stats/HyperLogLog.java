@@ -0,0 +1,94 @@
+package com.goorm.travelshopping.stats;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 2^10개의 레지스터를 쓰는 HyperLogLog. 레지스터 하나가 1바이트라 스케치 하나는 1KB이며 표준 오차는 약 3.2%이다.
+ */
+public final class HyperLogLog {
+
+    static final int PRECISION = 10;
+    static final int REGISTER_COUNT = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTER_COUNT];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != REGISTER_COUNT) {
+            throw new IllegalArgumentException("HyperLogLog 레지스터 크기가 올바르지 않습니다.");
+        }
+        return new HyperLogLog(bytes.clone());
+    }
+
+    public void add(String value) {
+        addHash(hash(value));
+    }
+
+    void addHash(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // 인덱스로 쓴 상위 비트를 밀어낸 뒤 남은 비트에서 선행 0의 개수를 센다. 마지막 비트를 세워 상한을 둔다.
+        long remaining = (hash << PRECISION) | (1L << (PRECISION - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public long estimate() {
+        double sum = 0.0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        // 작은 값 구간에서는 비어 있는 레지스터 비율로 세는 선형 계수가 더 정확하다.
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        return registers.clone();
+    }
+
+    public HyperLogLog copy() {
+        return new HyperLogLog(registers.clone());
+    }
+
+    /**
+     * FNV-1a 64비트 해시에 MurmurHash3의 마무리 섞기를 더해 상위 비트까지 고르게 퍼지게 한다.
+     */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
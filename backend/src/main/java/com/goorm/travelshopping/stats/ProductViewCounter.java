@@ -0,0 +1,126 @@
+package com.goorm.travelshopping.stats;
+
+import com.goorm.travelshopping.event.ProductDeletedEvent;
+import com.goorm.travelshopping.event.ProductViewsFlushedEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 조회수를 상품별 LongAdder에 모아 두었다가 주기적으로 한 번의 JDBC 배치로 product_view_stats에 더한다.
+ * 상세 조회가 products 행을 잠그지 않으므로 주문의 재고 차감과 경합하지 않는다.
+ */
+@Component
+public class ProductViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductViewCounter.class);
+    private static final String UPSERT_SQL = "INSERT INTO product_view_stats (product_id, view_count) VALUES (?, ?) "
+            + "ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count)";
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductViewCounter(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void record(Long productId) {
+        pending.computeIfAbsent(productId, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 저장된 조회수에 아직 반영되지 않은 조회수를 더한 값.
+     */
+    public long currentCount(Long productId, Long persistedCount) {
+        LongAdder adder = pending.get(productId);
+        long unflushed = adder != null ? adder.sum() : 0L;
+        return (persistedCount != null ? persistedCount : 0L) + unflushed;
+    }
+
+    // 상품 수만큼만 항목이 생기므로 비워진 카운터는 제거하지 않고 재사용한다. 제거하면 동시에 올라간 조회수를 잃을 수 있다.
+    @Scheduled(fixedDelayString = "${app.view-counter.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> flushed = flushPending();
+        if (!flushed.isEmpty()) {
+            eventPublisher.publishEvent(new ProductViewsFlushedEvent(flushed));
+        }
+    }
+
+    // 종료 중에는 리스너 빈이 이미 정리되었을 수 있으므로 저장만 한다.
+    @PreDestroy
+    public synchronized void flushOnShutdown() {
+        flushPending();
+    }
+
+    private Map<Long, Long> flushPending() {
+        List<Object[]> batch = new ArrayList<>();
+        pending.forEach((productId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                batch.add(new Object[]{productId, count});
+            }
+        });
+        Map<Long, Long> flushed = new HashMap<>();
+        if (batch.isEmpty()) {
+            return flushed;
+        }
+
+        try {
+            // 배치 전체를 한 트랜잭션으로 묶어, 실패하면 일부만 반영된 채 남지 않게 한다.
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_SQL, batch));
+            batch.forEach(row -> flushed.put((Long) row[0], (Long) row[1]));
+        } catch (DataAccessException ex) {
+            log.warn("조회수 일괄 반영 실패, 한 건씩 다시 반영합니다: {}건", batch.size(), ex);
+            for (Object[] row : batch) {
+                if (flushRow(row)) {
+                    flushed.put((Long) row[0], (Long) row[1]);
+                }
+            }
+        }
+        return flushed;
+    }
+
+    // 집계 직후 삭제된 상품은 외래 키에 걸리므로 버린다. 되돌리면 이후 배치가 매번 같은 행에서 실패한다.
+    private boolean flushRow(Object[] row) {
+        Long productId = (Long) row[0];
+        long count = (Long) row[1];
+        try {
+            jdbcTemplate.update(UPSERT_SQL, productId, count);
+            return true;
+        } catch (DataIntegrityViolationException ex) {
+            log.info("삭제된 상품의 조회수를 버립니다: productId={}, {}건", productId, count);
+            return false;
+        } catch (DataAccessException ex) {
+            // 일시적인 오류일 수 있으므로 다음 주기에 다시 반영하도록 되돌린다.
+            log.warn("조회수 반영 실패, 다음 주기에 재시도합니다: productId={}", productId, ex);
+            pending.computeIfAbsent(productId, key -> new LongAdder()).add(count);
+            return false;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductDeleted(ProductDeletedEvent event) {
+        pending.remove(event.productId());
+    }
+}
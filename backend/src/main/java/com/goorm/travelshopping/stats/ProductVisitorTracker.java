@@ -0,0 +1,131 @@
+package com.goorm.travelshopping.stats;
+
+import com.goorm.travelshopping.dto.product.ProductVisitorStatsResponse;
+import com.goorm.travelshopping.entity.ProductVisitorSketch;
+import com.goorm.travelshopping.exception.BadRequestException;
+import com.goorm.travelshopping.repository.ProductVisitorSketchRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품별, 일자별 순 방문자 수를 HyperLogLog 스케치로 추정한다.
+ * 조회 시에는 메모리의 스케치만 갱신하고, 주기적으로 저장된 스케치와 병합해 product_visitor_sketches에 반영한다.
+ */
+@Component
+public class ProductVisitorTracker {
+
+    private static final int MAX_WINDOW_DAYS = 366;
+
+    private final ConcurrentHashMap<SketchKey, HyperLogLog> pending = new ConcurrentHashMap<>();
+    private final ProductVisitorSketchRepository sketchRepository;
+
+    public ProductVisitorTracker(ProductVisitorSketchRepository sketchRepository) {
+        this.sketchRepository = sketchRepository;
+    }
+
+    public void record(Long productId, String visitorKey) {
+        // 스케치 변경은 compute 안에서만 일어나므로 flush가 꺼내 간 스케치에 뒤늦게 더해지는 일이 없다.
+        pending.compute(new SketchKey(productId, LocalDate.now()), (key, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.add(visitorKey);
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.visitor-sketch.flush-interval-ms:60000}")
+    @PreDestroy
+    @Transactional
+    public synchronized void flush() {
+        Map<LocalDate, Map<Long, HyperLogLog>> drained = new TreeMap<>();
+        for (SketchKey key : new ArrayList<>(pending.keySet())) {
+            HyperLogLog sketch = pending.remove(key);
+            if (sketch != null) {
+                drained.computeIfAbsent(key.date(), date -> new HashMap<>()).put(key.productId(), sketch);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            drained.forEach(this::persist);
+        } catch (RuntimeException ex) {
+            drained.forEach((date, sketches) -> sketches.forEach((productId, sketch) ->
+                    pending.merge(new SketchKey(productId, date), sketch, (current, restored) -> {
+                        current.merge(restored);
+                        return current;
+                    })));
+            throw ex;
+        }
+    }
+
+    /**
+     * 기간 내 일자별 추정치와, 일자별 스케치를 모두 병합한 기간 전체의 순 방문자 추정치를 돌려준다.
+     */
+    @Transactional(value = Transactional.TxType.SUPPORTS)
+    public ProductVisitorStatsResponse getVisitorStats(Long productId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_WINDOW_DAYS) {
+            throw new BadRequestException("조회 기간은 " + MAX_WINDOW_DAYS + "일 이내여야 합니다.");
+        }
+
+        Map<LocalDate, HyperLogLog> daily = new TreeMap<>();
+        for (ProductVisitorSketch stored : sketchRepository.findByProductIdAndVisitDateBetweenOrderByVisitDateAsc(productId, from, to)) {
+            daily.put(stored.getVisitDate(), HyperLogLog.fromBytes(stored.getRegisters()));
+        }
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            HyperLogLog unflushed = snapshot(new SketchKey(productId, date));
+            if (unflushed != null) {
+                daily.merge(date, unflushed, (stored, recent) -> {
+                    stored.merge(recent);
+                    return stored;
+                });
+            }
+        }
+
+        HyperLogLog total = new HyperLogLog();
+        List<ProductVisitorStatsResponse.DailyVisitors> dailyVisitors = new ArrayList<>(daily.size());
+        daily.forEach((date, sketch) -> {
+            total.merge(sketch);
+            dailyVisitors.add(new ProductVisitorStatsResponse.DailyVisitors(date, sketch.estimate()));
+        });
+        return new ProductVisitorStatsResponse(productId, from, to, total.estimate(), dailyVisitors);
+    }
+
+    private void persist(LocalDate date, Map<Long, HyperLogLog> sketches) {
+        List<ProductVisitorSketch> toSave = new ArrayList<>(sketches.size());
+        Map<Long, HyperLogLog> remaining = new HashMap<>(sketches);
+        for (ProductVisitorSketch stored : sketchRepository.findByVisitDateAndProductIdIn(date, sketches.keySet())) {
+            HyperLogLog merged = HyperLogLog.fromBytes(stored.getRegisters());
+            merged.merge(remaining.remove(stored.getProductId()));
+            stored.setRegisters(merged.toBytes());
+            toSave.add(stored);
+        }
+        remaining.forEach((productId, sketch) -> toSave.add(new ProductVisitorSketch(productId, date, sketch.toBytes())));
+        sketchRepository.saveAll(toSave);
+    }
+
+    private HyperLogLog snapshot(SketchKey key) {
+        HyperLogLog[] copy = new HyperLogLog[1];
+        pending.computeIfPresent(key, (k, sketch) -> {
+            copy[0] = sketch.copy();
+            return sketch;
+        });
+        return copy[0];
+    }
+
+    private record SketchKey(Long productId, LocalDate date) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.goorm.travelshopping.stats;
+
+import com.goorm.travelshopping.event.OrderPlacedEvent;
+import com.goorm.travelshopping.event.ProductDeletedEvent;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 조회와 주문 수량을 지수 감쇠 가중치로 더해 최근 인기 상품을 추적한다.
+ * Space-Saving 방식으로 capacity개의 카운터만 유지하며, 자리가 없으면 가장 낮은 카운터를 새 상품에 넘겨준다.
+ * 감쇠는 기준 시각 이후 경과 시간만큼 가중치를 키우는 전방 감쇠로 처리해 기존 카운터를 매번 갱신하지 않는다.
+ * 조회는 상품별 LongAdder에만 더하고 주기적으로 한 스레드가 카운터에 합치므로 상세 조회끼리 잠금을 다투지 않는다.
+ */
+@Component
+public class TrendingTracker {
+
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double ORDER_QUANTITY_WEIGHT = 10.0;
+    // 가중치가 너무 커지기 전에 기준 시각을 현재로 옮기고 모든 카운터를 같은 비율로 줄인다.
+    private static final double MAX_EXPONENT = 50.0;
+
+    private final int capacity;
+    private final double decayRate;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final Map<Long, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byCount = new TreeSet<>(Comparator.comparingDouble((Counter counter) -> counter.count)
+            .thenComparing(counter -> counter.productId));
+    private long landmark;
+
+    @Autowired
+    public TrendingTracker(@Value("${app.trending.capacity:500}") int capacity,
+                           @Value("${app.trending.half-life-minutes:60}") long halfLifeMinutes) {
+        this(capacity, halfLifeMinutes * 60_000L, System::currentTimeMillis);
+    }
+
+    TrendingTracker(int capacity, long halfLifeMillis, LongSupplier clock) {
+        this.capacity = capacity;
+        this.decayRate = Math.log(2) / halfLifeMillis;
+        this.clock = clock;
+        this.landmark = clock.getAsLong();
+    }
+
+    public void recordView(Long productId) {
+        pendingViews.computeIfAbsent(productId, key -> new LongAdder()).increment();
+    }
+
+    // 합치는 시각을 조회 시각으로 보므로 주기만큼의 오차가 생기지만 반감기에 비하면 무시할 수 있다.
+    // 한 주기 동안 조회가 없던 상품의 LongAdder는 제거해 한 번 조회된 상품이 계속 쌓이지 않게 한다.
+    // 제거 직전에 더해진 조회 한 건은 잃을 수 있지만 인기 순위에는 영향이 없다.
+    @Scheduled(fixedDelayString = "${app.trending.fold-interval-ms:1000}")
+    public synchronized void fold() {
+        pendingViews.forEach((productId, adder) -> {
+            long views = adder.sumThenReset();
+            if (views > 0) {
+                record(productId, views * VIEW_WEIGHT);
+            } else {
+                pendingViews.remove(productId, adder);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        event.quantitiesByProduct().forEach((productId, quantity) -> record(productId, quantity * ORDER_QUANTITY_WEIGHT));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProductDeleted(ProductDeletedEvent event) {
+        pendingViews.remove(event.productId());
+        Counter counter = counters.remove(event.productId());
+        if (counter != null) {
+            byCount.remove(counter);
+        }
+    }
+
+    /**
+     * 현재 시각 기준으로 감쇠된 점수가 높은 순서대로 상품 ID와 점수를 돌려준다.
+     */
+    public synchronized List<TrendingScore> top(int limit) {
+        fold();
+        double scale = Math.exp(-decayRate * (clock.getAsLong() - landmark));
+        List<TrendingScore> result = new ArrayList<>(Math.min(limit, byCount.size()));
+        for (Counter counter : byCount.descendingSet()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(new TrendingScore(counter.productId, counter.count * scale, counter.error * scale));
+        }
+        return result;
+    }
+
+    private synchronized void record(Long productId, double weight) {
+        long now = clock.getAsLong();
+        if (decayRate * (now - landmark) > MAX_EXPONENT) {
+            rescale(now);
+        }
+        double decayedWeight = weight * Math.exp(decayRate * (now - landmark));
+
+        Counter counter = counters.get(productId);
+        if (counter != null) {
+            byCount.remove(counter);
+            counter.count += decayedWeight;
+            byCount.add(counter);
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counter = new Counter(productId, decayedWeight, 0.0);
+        } else {
+            // 가장 낮은 카운터를 물려받으므로 그 값만큼이 과대 추정 오차가 된다.
+            Counter evicted = byCount.pollFirst();
+            counters.remove(evicted.productId);
+            counter = new Counter(productId, evicted.count + decayedWeight, evicted.count);
+        }
+        counters.put(productId, counter);
+        byCount.add(counter);
+    }
+
+    private void rescale(long now) {
+        double factor = Math.exp(-decayRate * (now - landmark));
+        List<Counter> all = new ArrayList<>(byCount);
+        byCount.clear();
+        for (Counter counter : all) {
+            counter.count *= factor;
+            counter.error *= factor;
+            byCount.add(counter);
+        }
+        landmark = now;
+    }
+
+    public record TrendingScore(Long productId, double score, double error) {
+    }
+
+    private static final class Counter {
+
+        private final Long productId;
+        private double count;
+        private double error;
+
+        private Counter(Long productId, double count, double error) {
+            this.productId = productId;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -83,7 +83,6 @@ class EndToEndFlowTest {
         product.setStockQuantity(50);
         product.setMainImageUrl("http://example.com/product.jpg");
         product.setStatus(ProductStatus.ACTIVE);
-        product.setViewCount(0L);
         product.setRatingAverage(null);
         product.setRatingCount(null);
         Product savedProduct = productRepository.save(product);
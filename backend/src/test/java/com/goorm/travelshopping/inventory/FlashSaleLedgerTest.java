@@ -0,0 +1,80 @@
+package com.goorm.travelshopping.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FlashSaleLedgerTest {
+
+    private final FlashSaleLedger ledger = new FlashSaleLedger();
+
+    @Test
+    @DisplayName("동시에 예약해도 원장 재고보다 많이 팔리지 않는다")
+    void tryReserve_neverOversellsUnderContention() throws InterruptedException {
+        ledger.track(1L, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (ledger.tryReserve(1L, 1) == FlashSaleLedger.Reservation.RESERVED) {
+                    reserved.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(reserved.get()).isEqualTo(100);
+        assertThat(ledger.available(1L)).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("남은 수량보다 많이 요청하면 차감 없이 거절하고, 되돌리면 다시 예약할 수 있다")
+    void tryReserve_rejectsWithoutPartialDecrement() {
+        ledger.track(1L, 3);
+
+        assertThat(ledger.tryReserve(1L, 2)).isEqualTo(FlashSaleLedger.Reservation.RESERVED);
+        assertThat(ledger.tryReserve(1L, 2)).isEqualTo(FlashSaleLedger.Reservation.INSUFFICIENT);
+        assertThat(ledger.available(1L)).hasValue(1);
+
+        ledger.release(1L, 2);
+        assertThat(ledger.tryReserve(1L, 2)).isEqualTo(FlashSaleLedger.Reservation.RESERVED);
+    }
+
+    @Test
+    @DisplayName("추적하지 않는 상품은 원장이 관여하지 않는다")
+    void tryReserve_reportsUntrackedProducts() {
+        ledger.replaceAll(Map.of(1L, 5));
+        ledger.untrack(1L);
+
+        assertThat(ledger.tryReserve(1L, 1)).isEqualTo(FlashSaleLedger.Reservation.NOT_TRACKED);
+        assertThat(ledger.tryReserve(2L, 1)).isEqualTo(FlashSaleLedger.Reservation.NOT_TRACKED);
+        assertThat(ledger.available(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("닫은 상품은 추적을 유지한 채 새 예약을 거절하고, 진행 중인 예약이 끝나야 정리된 것으로 본다")
+    void close_rejectsNewReservationsUntilUntracked() throws InterruptedException {
+        ledger.track(1L, 5);
+        assertThat(ledger.tryReserve(1L, 1)).isEqualTo(FlashSaleLedger.Reservation.RESERVED);
+
+        ledger.close(1L);
+
+        assertThat(ledger.tryReserve(1L, 1)).isEqualTo(FlashSaleLedger.Reservation.INSUFFICIENT);
+        assertThat(ledger.awaitSettled(1L, 50)).isFalse();
+        ledger.settle(1L);
+        assertThat(ledger.awaitSettled(1L, 50)).isTrue();
+        assertThat(ledger.available(1L)).hasValue(4);
+    }
+}
@@ -0,0 +1,41 @@
+package com.goorm.travelshopping.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.goorm.travelshopping.entity.enums.ProductStatus;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductFacetIndexTest {
+
+    private static final ProductFacetIndex.FacetFilter NO_FILTER = new ProductFacetIndex.FacetFilter(null, null, null, false);
+
+    private final ProductFacetIndex index = new ProductFacetIndex();
+
+    @Test
+    @DisplayName("재구성한 뒤에도 최신 순 조회와 기존 상품 갱신, 새 상품 추가가 새 문서 목록 기준으로 동작한다")
+    void replaceAll_thenSearchAndUpsert() {
+        index.upsert(document(9L, 10L, 5));
+
+        index.replaceAll(List.of(document(1L, 10L, 5), document(2L, 20L, 0)));
+
+        ProductFacetIndex.FacetResult result = index.search(NO_FILTER, null);
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(index.newestIds(result, 0, 10)).containsExactly(2L, 1L);
+
+        index.upsert(document(1L, 20L, 0));
+        index.upsert(document(3L, 10L, 5));
+
+        ProductFacetIndex.FacetResult updated = index.search(NO_FILTER, null);
+        assertThat(index.newestIds(updated, 0, 10)).containsExactly(3L, 2L, 1L);
+        assertThat(updated.categoryCounts()).containsEntry(20L, 2L).containsEntry(10L, 1L);
+        assertThat(updated.inStockCount()).isEqualTo(1);
+    }
+
+    private ProductDocument document(Long id, Long categoryId, int stock) {
+        return new ProductDocument(id, "상품 " + id, null, null, ProductStatus.ACTIVE,
+                categoryId, "카테고리", List.of(categoryId), BigDecimal.valueOf(100000), stock, null, 0L);
+    }
+}
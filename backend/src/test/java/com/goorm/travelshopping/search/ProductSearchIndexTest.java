@@ -0,0 +1,68 @@
+package com.goorm.travelshopping.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.goorm.travelshopping.entity.enums.ProductStatus;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductSearchIndexTest {
+
+    private final ProductSearchIndex index = new ProductSearchIndex();
+
+    @Test
+    @DisplayName("상품명에 나온 검색어가 설명에만 나온 검색어보다 높은 점수를 받는다")
+    void topHits_boostsNameField() {
+        index.upsert(document(1L, "제주 3일 투어", "렌터카 포함", "섬 일주"));
+        index.upsert(document(2L, "부산 야경 투어", "광안리", "제주 항공편 연계 가능"));
+        index.upsert(document(3L, "오사카 자유여행", "간사이 공항", "유니버설 스튜디오"));
+
+        List<SearchHit> hits = index.topHits("제주", 10, id -> true);
+
+        assertThat(hits).extracting(SearchHit::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("상위 limit개만 남기고 필터를 통과하지 못한 상품은 제외한다")
+    void topHits_keepsOnlyFilteredTopResults() {
+        index.upsert(document(1L, "제주 투어", null, null));
+        index.upsert(document(2L, "제주 제주 투어", null, null));
+        index.upsert(document(3L, "제주 숙소", null, "제주 제주 제주"));
+
+        List<SearchHit> hits = index.topHits("제주", 1, id -> id != 3L);
+
+        assertThat(hits).extracting(SearchHit::id).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("단어 중간에 나온 검색어도 찾되, 앞에서부터 일치한 상품이 먼저 온다")
+    void search_matchesInfixAndRanksPrefixFirst() {
+        index.upsert(document(1L, "부산해운대 야경 투어", null, null));
+        index.upsert(document(2L, "해운대 해수욕장 숙소", null, null));
+        index.upsert(document(3L, "제주 3일 투어", null, null));
+
+        assertThat(index.search("해운대")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.topHits("해운대", 10, id -> true)).extracting(SearchHit::id).containsExactly(2L, 1L);
+
+        index.remove(1L);
+        assertThat(index.search("산해운")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성하면 새 문서 집합으로 한 번에 바뀌고, 빠진 상품은 더 이상 검색되지 않는다")
+    void replaceAll_swapsInNewDocuments() {
+        index.upsert(document(1L, "제주 투어", null, null));
+
+        index.replaceAll(List.of(document(2L, "제주 숙소", null, null), document(3L, "부산 투어", null, null)));
+
+        assertThat(index.search("제주")).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private ProductDocument document(Long id, String name, String shortDescription, String description) {
+        return new ProductDocument(id, name, shortDescription, description, ProductStatus.ACTIVE,
+                1L, "국내", List.of(1L), BigDecimal.valueOf(100000), 10, null, 0L);
+    }
+}
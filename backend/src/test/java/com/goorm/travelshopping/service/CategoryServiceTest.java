@@ -0,0 +1,68 @@
+package com.goorm.travelshopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.goorm.travelshopping.dto.product.CategoryCreateRequest;
+import com.goorm.travelshopping.dto.product.CategoryResponse;
+import com.goorm.travelshopping.exception.BadRequestException;
+import com.goorm.travelshopping.repository.CategoryClosureRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CategoryServiceTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryClosureRepository categoryClosureRepository;
+
+    @Test
+    @DisplayName("카테고리를 생성하면 모든 상위 카테고리의 하위 목록에 포함된다")
+    void createCategory_registersAncestors() {
+        CategoryResponse asia = categoryService.createCategory(request("아시아", null));
+        CategoryResponse japan = categoryService.createCategory(request("일본", asia.id()));
+        CategoryResponse osaka = categoryService.createCategory(request("오사카", japan.id()));
+
+        assertThat(categoryClosureRepository.findDescendantIds(asia.id()))
+                .containsExactlyInAnyOrder(asia.id(), japan.id(), osaka.id());
+        assertThat(categoryClosureRepository.findDescendantIds(japan.id()))
+                .containsExactlyInAnyOrder(japan.id(), osaka.id());
+    }
+
+    @Test
+    @DisplayName("카테고리를 이동하면 하위 트리 전체의 상위 관계가 갱신된다")
+    void moveCategory_rewiresSubtree() {
+        CategoryResponse asia = categoryService.createCategory(request("아시아", null));
+        CategoryResponse europe = categoryService.createCategory(request("유럽", null));
+        CategoryResponse japan = categoryService.createCategory(request("일본", asia.id()));
+        CategoryResponse osaka = categoryService.createCategory(request("오사카", japan.id()));
+
+        categoryService.moveCategory(japan.id(), europe.id());
+
+        assertThat(categoryClosureRepository.findDescendantIds(asia.id())).containsExactly(asia.id());
+        assertThat(categoryClosureRepository.findDescendantIds(europe.id()))
+                .containsExactlyInAnyOrder(europe.id(), japan.id(), osaka.id());
+    }
+
+    @Test
+    @DisplayName("자기 하위 카테고리 아래로는 이동할 수 없다")
+    void moveCategory_intoOwnSubtree_rejected() {
+        CategoryResponse asia = categoryService.createCategory(request("아시아", null));
+        CategoryResponse japan = categoryService.createCategory(request("일본", asia.id()));
+
+        assertThrows(BadRequestException.class, () -> categoryService.moveCategory(asia.id(), japan.id()));
+    }
+
+    private CategoryCreateRequest request(String name, Long parentId) {
+        return new CategoryCreateRequest(name, null, parentId, 1, null);
+    }
+}
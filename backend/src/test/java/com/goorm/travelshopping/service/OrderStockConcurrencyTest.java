@@ -0,0 +1,144 @@
+package com.goorm.travelshopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.goorm.travelshopping.dto.order.OrderCreateRequest;
+import com.goorm.travelshopping.entity.Category;
+import com.goorm.travelshopping.entity.Product;
+import com.goorm.travelshopping.entity.User;
+import com.goorm.travelshopping.entity.enums.CategoryStatus;
+import com.goorm.travelshopping.entity.enums.PaymentMethod;
+import com.goorm.travelshopping.entity.enums.ProductStatus;
+import com.goorm.travelshopping.entity.enums.UserRole;
+import com.goorm.travelshopping.entity.enums.UserStatus;
+import com.goorm.travelshopping.exception.BadRequestException;
+import com.goorm.travelshopping.repository.CategoryRepository;
+import com.goorm.travelshopping.repository.OrderRepository;
+import com.goorm.travelshopping.repository.ProductRepository;
+import com.goorm.travelshopping.repository.UserRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// 각 주문이 자기 트랜잭션에서 커밋되어야 하므로 테스트 전체를 트랜잭션으로 묶지 않는다.
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderStockConcurrencyTest {
+
+    private static final int STOCK = 10;
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS = 100;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    private Long productId;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        Category category = new Category();
+        category.setName("동시성 카테고리");
+        category.setSortOrder(1);
+        category.setStatus(CategoryStatus.ACTIVE);
+        Category savedCategory = categoryRepository.save(category);
+
+        Product product = new Product();
+        product.setCategory(savedCategory);
+        product.setName("한정 수량 상품");
+        product.setPrice(BigDecimal.valueOf(100000));
+        product.setStockQuantity(STOCK);
+        product.setStatus(ProductStatus.ACTIVE);
+        productId = productRepository.save(product).getId();
+
+        user = new User();
+        user.setEmail("stock-user@example.com");
+        user.setPassword("encoded");
+        user.setName("동시 주문자");
+        user.setRole(UserRole.USER);
+        user.setStatus(UserStatus.ACTIVE);
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("재고보다 많은 주문이 동시에 들어와도 재고만큼만 주문되고 나머지는 재고 부족으로 거절된다")
+    void concurrentOrdersNeverOversell() throws InterruptedException {
+        OrderCreateRequest request = new OrderCreateRequest(
+                "동시 주문자",
+                "010-0000-0000",
+                "서울시 테스트구 1",
+                PaymentMethod.CARD,
+                List.of(new OrderCreateRequest.OrderItemRequest(productId, 1))
+        );
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(ATTEMPTS);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < ATTEMPTS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    orderService.createOrder(user, request);
+                    succeeded.incrementAndGet();
+                } catch (BadRequestException ex) {
+                    rejected.incrementAndGet();
+                } catch (Throwable ex) {
+                    unexpected.add(ex);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(unexpected).isEmpty();
+        assertThat(succeeded.get()).isEqualTo(STOCK);
+        assertThat(rejected.get()).isEqualTo(ATTEMPTS - STOCK);
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isZero();
+        assertThat(orderRepository.count()).isEqualTo(STOCK);
+    }
+
+    private void cleanUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
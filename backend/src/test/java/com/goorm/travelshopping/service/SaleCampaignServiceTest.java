@@ -0,0 +1,119 @@
+package com.goorm.travelshopping.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.goorm.travelshopping.dto.campaign.SaleCampaignCreateRequest;
+import com.goorm.travelshopping.dto.campaign.SaleCampaignResponse;
+import com.goorm.travelshopping.dto.product.CategoryCreateRequest;
+import com.goorm.travelshopping.dto.product.CategoryResponse;
+import com.goorm.travelshopping.entity.Product;
+import com.goorm.travelshopping.entity.enums.DiscountType;
+import com.goorm.travelshopping.entity.enums.ProductStatus;
+import com.goorm.travelshopping.entity.enums.SaleCampaignStatus;
+import com.goorm.travelshopping.repository.CategoryRepository;
+import com.goorm.travelshopping.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SaleCampaignServiceTest {
+
+    @Autowired
+    private SaleCampaignService saleCampaignService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("정률 행사는 하위 카테고리 상품까지 할인하고, 이미 더 싼 상품은 건너뛰며, 종료하면 원래 가격으로 되돌린다")
+    void percentCampaign_appliesToSubtreeAndReverts() {
+        CategoryResponse asia = categoryService.createCategory(new CategoryCreateRequest("아시아", null, null, 1, null));
+        CategoryResponse japan = categoryService.createCategory(new CategoryCreateRequest("일본", null, asia.id(), 1, null));
+        Long discounted = saveProduct(japan.id(), "오사카 투어", "100000", null);
+        Long cheaper = saveProduct(japan.id(), "교토 투어", "100000", "85000");
+
+        SaleCampaignResponse campaign = saleCampaignService.createCampaign(
+                campaignRequest(DiscountType.PERCENT, "10", asia.id(), null));
+
+        assertThat(campaign.status()).isEqualTo(SaleCampaignStatus.ACTIVE);
+        assertThat(campaign.appliedProductCount()).isEqualTo(1);
+        Product applied = reload(discounted);
+        assertThat(applied.getSalePrice()).isEqualByComparingTo("90000");
+        assertThat(applied.getEffectivePrice()).isEqualByComparingTo("90000");
+        assertThat(applied.getSaleCampaignId()).isEqualTo(campaign.id());
+        assertThat(reload(cheaper).getSaleCampaignId()).isNull();
+
+        saleCampaignService.endCampaign(campaign.id());
+
+        Product reverted = reload(discounted);
+        assertThat(reverted.getSalePrice()).isNull();
+        assertThat(reverted.getEffectivePrice()).isEqualByComparingTo("100000");
+        assertThat(reverted.getSaleCampaignId()).isNull();
+        assertThat(reverted.getOriginalSalePrice()).isNull();
+        assertThat(reload(cheaper).getSalePrice()).isEqualByComparingTo("85000");
+    }
+
+    @Test
+    @DisplayName("정액 행사를 취소하면 기존 할인가를 되살리고, 취소된 행사는 다시 시작되지 않는다")
+    void amountCampaign_cancelRestoresPreviousSalePrice() {
+        CategoryResponse asia = categoryService.createCategory(new CategoryCreateRequest("아시아", null, null, 1, null));
+        Long productId = saveProduct(asia.id(), "부산 투어", "100000", "95000");
+
+        SaleCampaignResponse campaign = saleCampaignService.createCampaign(
+                campaignRequest(DiscountType.AMOUNT, "10000", null, Set.of(productId)));
+        assertThat(reload(productId).getEffectivePrice()).isEqualByComparingTo("90000");
+        assertThat(reload(productId).getOriginalSalePrice()).isEqualByComparingTo("95000");
+
+        SaleCampaignResponse cancelled = saleCampaignService.cancelCampaign(campaign.id());
+        saleCampaignService.startCampaign(campaign.id(), LocalDateTime.now());
+
+        assertThat(cancelled.status()).isEqualTo(SaleCampaignStatus.CANCELLED);
+        Product reverted = reload(productId);
+        assertThat(reverted.getSalePrice()).isEqualByComparingTo("95000");
+        assertThat(reverted.getEffectivePrice()).isEqualByComparingTo("95000");
+        assertThat(reverted.getSaleCampaignId()).isNull();
+    }
+
+    private Long saveProduct(Long categoryId, String name, String price, String salePrice) {
+        Product product = new Product();
+        product.setCategory(categoryRepository.getReferenceById(categoryId));
+        product.setName(name);
+        product.setPrice(new BigDecimal(price));
+        product.setSalePrice(salePrice != null ? new BigDecimal(salePrice) : null);
+        product.setStockQuantity(10);
+        product.setStatus(ProductStatus.ACTIVE);
+        return productRepository.saveAndFlush(product).getId();
+    }
+
+    // 행사는 JDBC로 products를 갱신하므로 영속성 컨텍스트를 비우고 다시 읽는다.
+    private Product reload(Long productId) {
+        entityManager.flush();
+        entityManager.clear();
+        return productRepository.findById(productId).orElseThrow();
+    }
+
+    private SaleCampaignCreateRequest campaignRequest(DiscountType type, String value, Long categoryId, Set<Long> productIds) {
+        LocalDateTime now = LocalDateTime.now();
+        return new SaleCampaignCreateRequest("테스트 행사", type, new BigDecimal(value), categoryId, productIds,
+                now.minusMinutes(1), now.plusDays(1));
+    }
+}
@@ -0,0 +1,41 @@
+package com.goorm.travelshopping.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("중복 방문은 한 번만 세고 추정 오차는 표준 오차의 세 배 이내다")
+    void estimate_countsDistinctVisitors() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int round = 0; round < 3; round++) {
+            for (int visitor = 0; visitor < 20_000; visitor++) {
+                sketch.add("user:" + visitor);
+            }
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(20_000, within(20_000 * 0.1));
+    }
+
+    @Test
+    @DisplayName("일자별 스케치를 병합하면 기간 전체의 순 방문자 수가 된다")
+    void merge_estimatesUnion() {
+        HyperLogLog monday = new HyperLogLog();
+        HyperLogLog tuesday = new HyperLogLog();
+        for (int visitor = 0; visitor < 600; visitor++) {
+            monday.add("user:" + visitor);
+        }
+        for (int visitor = 300; visitor < 900; visitor++) {
+            tuesday.add("user:" + visitor);
+        }
+
+        HyperLogLog week = HyperLogLog.fromBytes(monday.toBytes());
+        week.merge(tuesday);
+
+        assertThat((double) week.estimate()).isCloseTo(900, within(900 * 0.1));
+    }
+}
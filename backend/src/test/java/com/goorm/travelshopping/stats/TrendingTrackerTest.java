@@ -0,0 +1,76 @@
+package com.goorm.travelshopping.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.goorm.travelshopping.event.ProductDeletedEvent;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrendingTrackerTest {
+
+    private static final long HALF_LIFE = 60_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    @DisplayName("반감기가 지나면 이전 조회의 점수가 절반으로 줄어 최근 조회 상품이 앞선다")
+    void top_prefersRecentActivity() {
+        TrendingTracker tracker = new TrendingTracker(10, HALF_LIFE, now::get);
+        for (int i = 0; i < 4; i++) {
+            tracker.recordView(1L);
+        }
+        tracker.fold();
+        now.addAndGet(2 * HALF_LIFE);
+        for (int i = 0; i < 2; i++) {
+            tracker.recordView(2L);
+        }
+
+        assertThat(tracker.top(2)).extracting(TrendingTracker.TrendingScore::productId).containsExactly(2L, 1L);
+        assertThat(tracker.top(2).get(1).score()).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("카운터가 가득 차면 가장 낮은 카운터를 새 상품이 물려받는다")
+    void record_evictsSmallestCounterWhenFull() {
+        TrendingTracker tracker = new TrendingTracker(2, HALF_LIFE, now::get);
+        tracker.recordView(1L);
+        tracker.recordView(1L);
+        tracker.fold();
+        tracker.recordView(2L);
+        tracker.fold();
+        tracker.recordView(3L);
+
+        assertThat(tracker.top(10)).extracting(TrendingTracker.TrendingScore::productId).containsExactly(3L, 1L);
+        assertThat(tracker.top(10).get(0).error()).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("조회는 합치기 전까지 버퍼에 모였다가 한 번에 반영된다")
+    void recordView_isBufferedUntilFold() {
+        TrendingTracker tracker = new TrendingTracker(10, HALF_LIFE, now::get);
+        for (int i = 0; i < 3; i++) {
+            tracker.recordView(1L);
+        }
+
+        tracker.fold();
+        tracker.fold();
+
+        assertThat(tracker.top(1).get(0).score()).isCloseTo(3.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("삭제된 상품은 카운터와 합치지 않은 조회가 함께 사라진다")
+    void onProductDeleted_dropsCounterAndPendingViews() {
+        TrendingTracker tracker = new TrendingTracker(10, HALF_LIFE, now::get);
+        tracker.recordView(1L);
+        tracker.recordView(2L);
+        tracker.fold();
+        tracker.recordView(1L);
+
+        tracker.onProductDeleted(new ProductDeletedEvent(1L));
+
+        assertThat(tracker.top(10)).extracting(TrendingTracker.TrendingScore::productId).containsExactly(2L);
+    }
+}
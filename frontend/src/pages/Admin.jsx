@@ -1,6 +1,6 @@
-import React, { useEffect, useMemo, useState } from 'react'
+import React, { useEffect, useState } from 'react'
 import { useAuth } from '../contexts/AuthContext'
-import { fetchAllOrders, updateOrderStatus } from '../services/orderService'
+import { fetchAdminOrders, updateOrderStatus } from '../services/orderService'
 import {
   createProduct,
   deleteProduct,
@@ -9,6 +9,7 @@ import {
   fetchCategories,
   updateProduct,
 } from '../services/productService'
+import { subscribeDashboardStats } from '../services/statsService'
 
 const ORDER_STATUSES = [
   'ORDER_PLACED',
@@ -24,6 +25,19 @@ const PAYMENT_STATUSES = ['PENDING', 'COMPLETED', 'FAILED', 'REFUNDED']
 
 const PRODUCT_STATUSES = ['DRAFT', 'ACTIVE', 'INACTIVE', 'DISCONTINUED']
 
+const PRODUCT_PAGE_SIZE = 20
+
+const ORDER_PAGE_SIZE = 20
+
+const INITIAL_ORDER_FILTERS = {
+  status: '',
+  paymentStatus: '',
+  from: '',
+  to: '',
+}
+
+const LOW_STOCK_THRESHOLD = 10
+
 const INITIAL_PRODUCT_FORM = {
   categoryId: '',
   name: '',
@@ -47,11 +61,19 @@ function Admin() {
   const [orderPaymentSelections, setOrderPaymentSelections] = useState({})
   const [orderFeedback, setOrderFeedback] = useState(null)
   const [orderLoading, setOrderLoading] = useState(false)
+  const [orderFilters, setOrderFilters] = useState(INITIAL_ORDER_FILTERS)
+  const [appliedOrderFilters, setAppliedOrderFilters] = useState(INITIAL_ORDER_FILTERS)
+  const [orderNextCursor, setOrderNextCursor] = useState(null)
+  const [orderLoadingMore, setOrderLoadingMore] = useState(false)
 
   // 상품 관리 상태
   const [products, setProducts] = useState([])
+  const [productTotal, setProductTotal] = useState(0)
+  const [productPage, setProductPage] = useState(0)
   const [productStatusFilter, setProductStatusFilter] = useState('')
   const [productSearchTerm, setProductSearchTerm] = useState('')
+  const [productSort, setProductSort] = useState('LATEST')
+  const [productLowStockOnly, setProductLowStockOnly] = useState(false)
   const [productFeedback, setProductFeedback] = useState(null)
   const [productError, setProductError] = useState(null)
   const [productLoading, setProductLoading] = useState(false)
@@ -62,8 +84,45 @@ function Admin() {
   const [productDetailLoading, setProductDetailLoading] = useState(false)
   const [categories, setCategories] = useState([])
 
+  const [dashboardStats, setDashboardStats] = useState(null)
+
   const isAdmin = isAuthenticated && user?.role === 'ADMIN'
 
+  function buildOrderParams(cursor) {
+    const params = { size: ORDER_PAGE_SIZE }
+    Object.entries(appliedOrderFilters).forEach(([key, value]) => {
+      if (value) {
+        params[key] = value
+      }
+    })
+    if (cursor) {
+      params.cursor = cursor
+    }
+    return params
+  }
+
+  async function reloadOrders() {
+    const data = await fetchAdminOrders(buildOrderParams())
+    setOrders(data.items)
+    setOrderNextCursor(data.nextCursor)
+  }
+
+  async function reloadProducts() {
+    const params = { page: productPage, size: PRODUCT_PAGE_SIZE, sort: productSort }
+    if (productStatusFilter) {
+      params.status = productStatusFilter
+    }
+    if (productSearchTerm.trim()) {
+      params.namePrefix = productSearchTerm.trim()
+    }
+    if (productLowStockOnly) {
+      params.stockBelow = LOW_STOCK_THRESHOLD
+    }
+    const data = await fetchAdminProducts(params)
+    setProducts(data.items)
+    setProductTotal(data.total)
+  }
+
   useEffect(() => {
     if (!isAdmin) {
       return
@@ -81,6 +140,13 @@ function Admin() {
     loadCategories()
   }, [isAdmin])
 
+  useEffect(() => {
+    if (!isAdmin) {
+      return undefined
+    }
+    return subscribeDashboardStats(setDashboardStats)
+  }, [isAdmin])
+
   useEffect(() => {
     if (!isAdmin || activeTab !== 'orders') {
       return
@@ -90,8 +156,7 @@ function Admin() {
       try {
         setOrderLoading(true)
         setOrderFeedback(null)
-        const data = await fetchAllOrders()
-        setOrders(data)
+        await reloadOrders()
       } catch (error) {
         setOrderFeedback({ type: 'danger', message: error.message || '주문 목록을 불러오지 못했습니다.' })
       } finally {
@@ -100,7 +165,7 @@ function Admin() {
     }
 
     loadOrders()
-  }, [isAdmin, activeTab])
+  }, [isAdmin, activeTab, appliedOrderFilters])
 
   useEffect(() => {
     if (!isAdmin || activeTab !== 'products') {
@@ -111,12 +176,7 @@ function Admin() {
       try {
         setProductLoading(true)
         setProductError(null)
-        const params = {}
-        if (productStatusFilter) {
-          params.status = productStatusFilter
-        }
-        const data = await fetchAdminProducts(params)
-        setProducts(data)
+        await reloadProducts()
       } catch (error) {
         setProductError(error.message || '상품 목록을 불러오지 못했습니다.')
       } finally {
@@ -125,7 +185,7 @@ function Admin() {
     }
 
     loadProducts()
-  }, [isAdmin, activeTab, productStatusFilter])
+  }, [isAdmin, activeTab, productStatusFilter, productSearchTerm, productSort, productLowStockOnly, productPage])
 
   if (!isAdmin) {
     return (
@@ -155,23 +215,44 @@ function Admin() {
         paymentStatus: orderPaymentSelections[orderNumber] || null,
       })
       setOrderFeedback({ type: 'success', message: `${orderNumber} 주문 상태가 갱신되었습니다.` })
-      const refreshed = await fetchAllOrders()
-      setOrders(refreshed)
+      await reloadOrders()
     } catch (error) {
       setOrderFeedback({ type: 'danger', message: error.message || '주문 상태 갱신에 실패했습니다.' })
     }
   }
 
-  const filteredProducts = useMemo(() => {
-    if (!productSearchTerm) {
-      return products
+  const handleOrderFilterChange = (event) => {
+    const { name, value } = event.target
+    setOrderFilters((prev) => ({ ...prev, [name]: value }))
+  }
+
+  const handleOrderFilterSubmit = (event) => {
+    event.preventDefault()
+    setAppliedOrderFilters(orderFilters)
+  }
+
+  const handleLoadMoreOrders = async () => {
+    if (!orderNextCursor) {
+      return
     }
-    const keyword = productSearchTerm.toLowerCase()
-    return products.filter((product) => {
-      const target = `${product.name} ${product.shortDescription || ''} ${product.description || ''}`.toLowerCase()
-      return target.includes(keyword)
-    })
-  }, [products, productSearchTerm])
+    try {
+      setOrderLoadingMore(true)
+      const data = await fetchAdminOrders(buildOrderParams(orderNextCursor))
+      setOrders((prev) => [...prev, ...data.items])
+      setOrderNextCursor(data.nextCursor)
+    } catch (error) {
+      setOrderFeedback({ type: 'danger', message: error.message || '주문 목록을 불러오지 못했습니다.' })
+    } finally {
+      setOrderLoadingMore(false)
+    }
+  }
+
+  const productPageCount = Math.max(1, Math.ceil(productTotal / PRODUCT_PAGE_SIZE))
+
+  const updateProductFilter = (setter) => (value) => {
+    setter(value)
+    setProductPage(0)
+  }
 
   const openProductModal = (mode = 'create') => {
     setProductModalMode(mode)
@@ -299,9 +380,7 @@ function Admin() {
         setProductFeedback({ type: 'success', message: '상품이 등록되었습니다.' })
       }
       closeProductModal()
-      const params = productStatusFilter ? { status: productStatusFilter } : {}
-      const data = await fetchAdminProducts(params)
-      setProducts(data)
+      await reloadProducts()
     } catch (error) {
       setProductFeedback({ type: 'danger', message: error.message || '상품 저장에 실패했습니다.' })
     }
@@ -316,9 +395,7 @@ function Admin() {
     try {
       await deleteProduct(productId)
       setProductFeedback({ type: 'success', message: '상품이 삭제되었습니다.' })
-      const params = productStatusFilter ? { status: productStatusFilter } : {}
-      const data = await fetchAdminProducts(params)
-      setProducts(data)
+      await reloadProducts()
     } catch (error) {
       setProductFeedback({ type: 'danger', message: error.message || '상품 삭제에 실패했습니다.' })
     }
@@ -328,6 +405,27 @@ function Admin() {
     <div className="container" style={{ padding: '2rem 0' }}>
       <h1 style={{ fontSize: '2rem', fontWeight: 'bold', marginBottom: '1.5rem' }}>관리자 센터</h1>
 
+      {dashboardStats && (
+        <div style={{ display: 'grid', gridTemplateColumns: 'repeat(auto-fit, minmax(160px, 1fr))', gap: '1rem', marginBottom: '1.5rem' }}>
+          <div className="card" style={{ padding: '1rem' }}>
+            <p style={{ color: 'var(--gray-600)' }}>오늘 매출</p>
+            <p style={{ fontWeight: 'bold' }}>₩{Number(dashboardStats.revenueToday || 0).toLocaleString()}</p>
+          </div>
+          <div className="card" style={{ padding: '1rem' }}>
+            <p style={{ color: 'var(--gray-600)' }}>이번 달 매출</p>
+            <p style={{ fontWeight: 'bold' }}>₩{Number(dashboardStats.revenueThisMonth || 0).toLocaleString()}</p>
+          </div>
+          <div className="card" style={{ padding: '1rem' }}>
+            <p style={{ color: 'var(--gray-600)' }}>활성 회원</p>
+            <p style={{ fontWeight: 'bold' }}>{Number(dashboardStats.activeUsers || 0).toLocaleString()}명</p>
+          </div>
+          <div className="card" style={{ padding: '1rem' }}>
+            <p style={{ color: 'var(--gray-600)' }}>신규 주문</p>
+            <p style={{ fontWeight: 'bold' }}>{Number(dashboardStats.ordersByStatus?.ORDER_PLACED || 0).toLocaleString()}건</p>
+          </div>
+        </div>
+      )}
+
       <div style={{ display: 'flex', gap: '1rem', marginBottom: '1.5rem' }}>
         <button
           type="button"
@@ -361,6 +459,52 @@ function Admin() {
             </div>
           )}
 
+          <form onSubmit={handleOrderFilterSubmit} style={{ display: 'flex', flexWrap: 'wrap', gap: '0.75rem', marginBottom: '1rem' }}>
+            <select
+              name="status"
+              value={orderFilters.status}
+              onChange={handleOrderFilterChange}
+              style={{ padding: '0.75rem', borderRadius: '8px', border: '1px solid var(--gray-300)' }}
+            >
+              <option value="">전체 주문 상태</option>
+              {ORDER_STATUSES.map((status) => (
+                <option key={status} value={status}>
+                  {status}
+                </option>
+              ))}
+            </select>
+            <select
+              name="paymentStatus"
+              value={orderFilters.paymentStatus}
+              onChange={handleOrderFilterChange}
+              style={{ padding: '0.75rem', borderRadius: '8px', border: '1px solid var(--gray-300)' }}
+            >
+              <option value="">전체 결제 상태</option>
+              {PAYMENT_STATUSES.map((status) => (
+                <option key={status} value={status}>
+                  {status}
+                </option>
+              ))}
+            </select>
+            <input
+              type="date"
+              name="from"
+              value={orderFilters.from}
+              onChange={handleOrderFilterChange}
+              style={{ padding: '0.75rem', borderRadius: '8px', border: '1px solid var(--gray-300)' }}
+            />
+            <input
+              type="date"
+              name="to"
+              value={orderFilters.to}
+              onChange={handleOrderFilterChange}
+              style={{ padding: '0.75rem', borderRadius: '8px', border: '1px solid var(--gray-300)' }}
+            />
+            <button className="btn btn-secondary" type="submit">
+              조회
+            </button>
+          </form>
+
           {orderLoading ? (
             <p>주문을 불러오는 중입니다...</p>
           ) : (
@@ -371,6 +515,7 @@ function Admin() {
                     <div>
                       <h2 style={{ fontSize: '1.1rem', fontWeight: 600 }}>{order.orderNumber}</h2>
                       <p style={{ color: 'var(--gray-600)' }}>주문일: {new Date(order.orderDate).toLocaleString()}</p>
+                      <p style={{ color: 'var(--gray-600)' }}>주문자: {order.userEmail}</p>
                       <p style={{ color: 'var(--gray-600)' }}>현재 상태: {order.status}</p>
                       <p style={{ color: 'var(--gray-600)' }}>결제 상태: {order.paymentStatus}</p>
                     </div>
@@ -428,6 +573,12 @@ function Admin() {
                   </ul>
                 </div>
               ))}
+              {orders.length === 0 && <p>조건에 맞는 주문이 없습니다.</p>}
+              {orderNextCursor && (
+                <button className="btn btn-secondary" type="button" onClick={handleLoadMoreOrders} disabled={orderLoadingMore}>
+                  {orderLoadingMore ? '불러오는 중...' : '더 보기'}
+                </button>
+              )}
             </div>
           )}
         </section>
@@ -459,7 +610,7 @@ function Admin() {
             <div style={{ display: 'flex', flexWrap: 'wrap', gap: '1rem', alignItems: 'center', marginBottom: '1rem' }}>
               <select
                 value={productStatusFilter}
-                onChange={(event) => setProductStatusFilter(event.target.value)}
+                onChange={(event) => updateProductFilter(setProductStatusFilter)(event.target.value)}
                 style={{ padding: '0.75rem', borderRadius: '8px', border: '1px solid var(--gray-300)' }}
               >
                 <option value="">전체 상태</option>
@@ -472,12 +623,33 @@ function Admin() {
 
               <input
                 type="search"
-                placeholder="상품명, 설명 검색"
+                placeholder="상품명 앞부분 검색"
                 value={productSearchTerm}
-                onChange={(event) => setProductSearchTerm(event.target.value)}
+                onChange={(event) => updateProductFilter(setProductSearchTerm)(event.target.value)}
                 style={{ flex: '1 1 200px', padding: '0.75rem', borderRadius: '8px', border: '1px solid var(--gray-300)' }}
               />
 
+              <select
+                value={productSort}
+                onChange={(event) => updateProductFilter(setProductSort)(event.target.value)}
+                style={{ padding: '0.75rem', borderRadius: '8px', border: '1px solid var(--gray-300)' }}
+              >
+                <option value="LATEST">최신 등록순</option>
+                <option value="NAME">이름순</option>
+                <option value="PRICE_ASC">낮은 가격순</option>
+                <option value="PRICE_DESC">높은 가격순</option>
+                <option value="STOCK_ASC">재고 적은순</option>
+              </select>
+
+              <label style={{ display: 'flex', alignItems: 'center', gap: '0.5rem' }}>
+                <input
+                  type="checkbox"
+                  checked={productLowStockOnly}
+                  onChange={(event) => updateProductFilter(setProductLowStockOnly)(event.target.checked)}
+                />
+                재고 {LOW_STOCK_THRESHOLD}개 미만
+              </label>
+
               <button className="btn btn-primary" type="button" onClick={() => openProductModal('create')}>
                 새 상품 등록
               </button>
@@ -499,7 +671,7 @@ function Admin() {
                     </tr>
                   </thead>
                   <tbody>
-                    {filteredProducts.map((product) => (
+                    {products.map((product) => (
                       <tr key={product.id} style={{ borderTop: '1px solid var(--gray-200)' }}>
                         <td style={{ padding: '0.75rem' }}>{product.name}</td>
                         <td style={{ padding: '0.75rem' }}>{product.status || 'ACTIVE'}</td>
@@ -516,7 +688,7 @@ function Admin() {
                         </td>
                       </tr>
                     ))}
-                    {filteredProducts.length === 0 && (
+                    {products.length === 0 && (
                       <tr>
                         <td colSpan={6} style={{ padding: '1rem', textAlign: 'center', color: 'var(--gray-600)' }}>
                           표시할 상품이 없습니다.
@@ -525,6 +697,27 @@ function Admin() {
                     )}
                   </tbody>
                 </table>
+                <div style={{ display: 'flex', justifyContent: 'flex-end', alignItems: 'center', gap: '0.75rem', marginTop: '1rem' }}>
+                  <span style={{ color: 'var(--gray-600)' }}>
+                    총 {productTotal.toLocaleString()}개 · {productPage + 1} / {productPageCount} 페이지
+                  </span>
+                  <button
+                    className="btn btn-secondary"
+                    type="button"
+                    disabled={productPage === 0}
+                    onClick={() => setProductPage((prev) => Math.max(0, prev - 1))}
+                  >
+                    이전
+                  </button>
+                  <button
+                    className="btn btn-secondary"
+                    type="button"
+                    disabled={productPage + 1 >= productPageCount}
+                    onClick={() => setProductPage((prev) => prev + 1)}
+                  >
+                    다음
+                  </button>
+                </div>
               </div>
             )}
           </div>
@@ -14,10 +14,10 @@ function Home() {
       try {
         setIsLoading(true)
         const [products, categories] = await Promise.all([
-          fetchProducts(),
+          fetchProducts({ size: 4 }),
           fetchCategories(),
         ])
-        setFeaturedProducts(products.slice(0, 4))
+        setFeaturedProducts(products.items)
         setCategoryList(categories)
       } catch (err) {
         setError(err.message || '홈 데이터를 불러오지 못했습니다.')
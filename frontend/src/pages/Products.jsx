@@ -5,11 +5,14 @@ import { fetchCategories, fetchProducts } from '../services/productService'
 function Products() {
   const [searchParams, setSearchParams] = useSearchParams()
   const [products, setProducts] = useState([])
+  const [nextCursor, setNextCursor] = useState(null)
+  const [isLoadingMore, setIsLoadingMore] = useState(false)
   const [categories, setCategories] = useState([])
   const [isLoading, setIsLoading] = useState(true)
   const [error, setError] = useState(null)
   const [searchTerm, setSearchTerm] = useState(searchParams.get('keyword') || '')
   const [selectedCategory, setSelectedCategory] = useState(searchParams.get('category') || '')
+  const [selectedSort, setSelectedSort] = useState(searchParams.get('sort') || '')
 
   useEffect(() => {
     async function loadInitial() {
@@ -23,18 +26,25 @@ function Products() {
     loadInitial()
   }, [])
 
+  const buildParams = () => {
+    const params = {}
+    const keyword = searchParams.get('keyword')
+    const category = searchParams.get('category')
+    const sort = searchParams.get('sort')
+    if (keyword) params.keyword = keyword
+    if (category) params.categoryId = category
+    if (sort) params.sort = sort
+    return params
+  }
+
   useEffect(() => {
     async function loadProducts() {
       try {
         setIsLoading(true)
         setError(null)
-        const params = {}
-        const keyword = searchParams.get('keyword')
-        const category = searchParams.get('category')
-        if (keyword) params.keyword = keyword
-        if (category) params.categoryId = category
-        const data = await fetchProducts(params)
-        setProducts(data)
+        const data = await fetchProducts(buildParams())
+        setProducts(data.items)
+        setNextCursor(data.nextCursor)
       } catch (err) {
         setError(err.message || '상품 목록을 불러오지 못했습니다.')
       } finally {
@@ -45,6 +55,22 @@ function Products() {
     loadProducts()
   }, [searchParams])
 
+  const handleLoadMore = async () => {
+    if (!nextCursor) {
+      return
+    }
+    try {
+      setIsLoadingMore(true)
+      const data = await fetchProducts({ ...buildParams(), cursor: nextCursor })
+      setProducts((prev) => [...prev, ...data.items])
+      setNextCursor(data.nextCursor)
+    } catch (err) {
+      setError(err.message || '상품 목록을 불러오지 못했습니다.')
+    } finally {
+      setIsLoadingMore(false)
+    }
+  }
+
   const handleSearch = (event) => {
     event.preventDefault()
     const params = {}
@@ -54,12 +80,16 @@ function Products() {
     if (selectedCategory) {
       params.category = selectedCategory
     }
+    if (selectedSort) {
+      params.sort = selectedSort
+    }
     setSearchParams(params, { replace: true })
   }
 
   const handleReset = () => {
     setSearchTerm('')
     setSelectedCategory('')
+    setSelectedSort('')
     setSearchParams({}, { replace: true })
   }
 
@@ -154,6 +184,32 @@ function Products() {
                 ))}
               </select>
             </div>
+            <div>
+              <label style={{ display: 'block', marginBottom: '0.5rem', fontWeight: '600', color: '#374151' }}>
+                ↕️ 정렬
+              </label>
+              <select
+                value={selectedSort}
+                onChange={(event) => setSelectedSort(event.target.value)}
+                style={{
+                  width: '100%',
+                  padding: '0.875rem 1rem',
+                  borderRadius: '12px',
+                  border: '2px solid #e5e7eb',
+                  fontSize: '1rem',
+                  backgroundColor: 'white',
+                  cursor: 'pointer'
+                }}
+              >
+                <option value="">기본순 (검색 시 관련도순)</option>
+                <option value="RELEVANCE">관련도순</option>
+                <option value="LATEST">최신순</option>
+                <option value="PRICE_ASC">낮은 가격순</option>
+                <option value="PRICE_DESC">높은 가격순</option>
+                <option value="RATING">평점순</option>
+                <option value="POPULAR">인기순</option>
+              </select>
+            </div>
             <div style={{ display: 'flex', gap: '0.75rem' }}>
               <button
                 type="submit"
@@ -385,7 +441,29 @@ function Products() {
           ))}
         </div>
 
-        {!isLoading && !error && products.length > 0 && (
+        {!isLoading && !error && nextCursor && (
+          <div style={{ textAlign: 'center', marginTop: '3rem' }}>
+            <button
+              type="button"
+              onClick={handleLoadMore}
+              disabled={isLoadingMore}
+              style={{
+                padding: '0.875rem 2.5rem',
+                borderRadius: '12px',
+                border: '2px solid #e5e7eb',
+                backgroundColor: 'white',
+                color: '#3b82f6',
+                fontSize: '1rem',
+                fontWeight: '600',
+                cursor: isLoadingMore ? 'default' : 'pointer'
+              }}
+            >
+              {isLoadingMore ? '불러오는 중...' : '더 보기'}
+            </button>
+          </div>
+        )}
+
+        {!isLoading && !error && products.length > 0 && !nextCursor && (
           <div style={{
             textAlign: 'center',
             marginTop: '3rem',
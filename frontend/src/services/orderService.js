@@ -10,8 +10,8 @@ export async function fetchOrders() {
   return response.data
 }
 
-export async function fetchAllOrders() {
-  const response = await apiClient.get('/orders/admin/all')
+export async function fetchAdminOrders(params = {}) {
+  const response = await apiClient.get('/orders/admin/all', { params })
   return response.data
 }
 
@@ -15,6 +15,11 @@ export async function fetchProductDetail(productId) {
   return response.data
 }
 
+export async function fetchProductDetails(productIds) {
+  const response = await apiClient.get('/products/batch', { params: { ids: productIds.join(',') } })
+  return response.data
+}
+
 export async function fetchAdminProducts(params = {}) {
   const response = await apiClient.get('/admin/products', { params })
   return response.data
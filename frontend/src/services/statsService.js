@@ -0,0 +1,15 @@
+import apiClient from './apiClient'
+
+export async function fetchDashboardStats() {
+  const response = await apiClient.get('/admin/stats')
+  return response.data
+}
+
+// 서버가 집계가 바뀔 때마다 보내는 스냅샷을 구독한다. 반환한 함수로 연결을 닫는다.
+export function subscribeDashboardStats(onStats) {
+  const source = new EventSource(`${apiClient.defaults.baseURL}/admin/stats/stream`, { withCredentials: true })
+  source.addEventListener('stats', (event) => {
+    onStats(JSON.parse(event.data))
+  })
+  return () => source.close()
+}